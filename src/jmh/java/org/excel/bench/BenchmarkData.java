@@ -0,0 +1,88 @@
+package org.excel.bench;
+
+import org.excel.ExcelWriteConverter;
+import org.excel.option.CsvFormat;
+import org.excel.option.ExcelWriteOption;
+import org.excel.write.ExcelRows;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.function.IntFunction;
+import java.util.stream.IntStream;
+
+/**
+ * 벤치마크용 합성 데이터 / workbook 생성
+ * 생성한 workbook은 java.io.tmpdir/excel-bench에 저장 후 재사용
+ */
+public final class BenchmarkData {
+
+    //문자열 컬럼 값 종류 (shared string 중복률 조절)
+    private static final int WORD_CARDINALITY = 5000;
+
+    private BenchmarkData() {
+    }
+
+    public static String word(int row, int column) {
+        return "w" + Math.floorMod(row * 31 + column * 7919, WORD_CARDINALITY);
+    }
+
+    /**
+     * shape: NARROW / WIDE, content: STRING / NUMERIC
+     */
+    public static Class<?> rowType(String shape, String content) {
+        boolean wide = "WIDE".equals(shape);
+        boolean text = "STRING".equals(content);
+
+        if (wide) return text ? WideText.class : WideNumber.class;
+
+        return text ? NarrowText.class : NarrowNumber.class;
+    }
+
+    public static IntFunction<Object> rowFactory(Class<?> type) {
+        if (type == WideText.class) return WideText::of;
+        if (type == WideNumber.class) return WideNumber::of;
+        if (type == NarrowText.class) return NarrowText::of;
+        return NarrowNumber::of;
+    }
+
+    /**
+     * rows 개의 row를 미리 만들지 않고 필요할 때 생성하는 쓰기 데이터
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> ExcelRows<T> rows(Class<T> type, int rows) {
+        IntFunction<Object> factory = rowFactory(type);
+
+        return ExcelRows.of(type, IntStream.range(0, rows).mapToObj(i -> (T) factory.apply(i)));
+    }
+
+    /**
+     * 생성된 workbook 경로 (없으면 SXSSF로 생성)
+     */
+    public static synchronized Path workbook(String shape, String content, int rows, String extension) throws Exception {
+        Path dir = Paths.get(System.getProperty("java.io.tmpdir"), "excel-bench");
+        Files.createDirectories(dir);
+
+        Path file = dir.resolve(shape + "-" + content + "-" + rows + "." + extension);
+
+        if (Files.exists(file)) return file;
+
+        Path temp = Files.createTempFile(dir, "gen", "." + extension);
+
+        ExcelWriteOption option = "csv".equals(extension)
+                ? ExcelWriteOption.builder().csv(CsvFormat.csv()).build()
+                : ExcelWriteOption.builder().streaming(true).build();
+
+        try {
+            new ExcelWriteConverter(option).writeExcel(temp, null, rows(rowType(shape, content), rows));
+            Files.move(temp, file);
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(temp);
+            throw e;
+        }
+
+        return file;
+    }
+
+}
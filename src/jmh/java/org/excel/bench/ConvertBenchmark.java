@@ -0,0 +1,121 @@
+package org.excel.bench;
+
+import org.excel.convert.ConvertResult;
+import org.excel.meta.Accessors;
+import org.excel.meta.ExcelMetaRegistry;
+import org.excel.meta.FieldAccessor;
+import org.excel.meta.ReadColumn;
+import org.excel.meta.ReflectionFieldAccessor;
+import org.excel.read.BufferedReadRow;
+import org.openjdk.jmh.annotations.*;
+
+import java.lang.reflect.Field;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 셀 하나의 변환 + 필드 설정 비용 (숫자 셀, 숫자 문자열 셀)
+ * 필드 설정만 따로 생성 accessor(hidden class)와 리플렉션 accessor로 비교
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Thread)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class ConvertBenchmark {
+
+    //NarrowNumber 컬럼 수 (호출당 연산 수)
+    private static final int COLUMNS = 5;
+
+    private ReadColumn[] columns;
+
+    private final BufferedReadRow numericRow = new BufferedReadRow(false);
+
+    private final BufferedReadRow textRow = new BufferedReadRow(false);
+
+    private final ConvertResult result = new ConvertResult();
+
+    private final NarrowNumber target = new NarrowNumber();
+
+    private final FieldAccessor[] generatedAccessors = new FieldAccessor[COLUMNS];
+
+    private final FieldAccessor[] reflectionAccessors = new FieldAccessor[COLUMNS];
+
+    @Setup
+    public void setUp() throws NoSuchFieldException {
+        columns = ExcelMetaRegistry.get(NarrowNumber.class).getReadColumns();
+
+        //OperationsPerInvocation과 실제 컬럼 수가 다르면 결과가 틀어지므로 실행 중단
+        if (columns.length != COLUMNS) {
+            throw new IllegalStateException("NarrowNumber columns " + columns.length + " != " + COLUMNS);
+        }
+
+        for (int i = 0; i < columns.length; i++) {
+            numericRow.setNumeric(i, i * 1.25, false);
+            textRow.setString(i, Double.toString(i * 1.25));
+        }
+
+        for (int i = 0; i < COLUMNS; i++) {
+            Field field = NarrowNumber.class.getDeclaredField("c" + i);
+
+            generatedAccessors[i] = Accessors.forField(field);
+            reflectionAccessors[i] = new ReflectionFieldAccessor(field);
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(COLUMNS)
+    public Object numericCells() {
+        for (int i = 0; i < columns.length; i++) {
+            columns[i].read(numericRow, i, target, result);
+        }
+
+        return target;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(COLUMNS)
+    public Object textCells() {
+        for (int i = 0; i < columns.length; i++) {
+            columns[i].read(textRow, i, target, result);
+        }
+
+        return target;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(COLUMNS)
+    public Object generatedAccessor() {
+        for (int i = 0; i < COLUMNS; i++) {
+            generatedAccessors[i].setDouble(target, i * 1.25);
+        }
+
+        return target;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(COLUMNS)
+    public Object reflectionAccessor() {
+        for (int i = 0; i < COLUMNS; i++) {
+            reflectionAccessors[i].setDouble(target, i * 1.25);
+        }
+
+        return target;
+    }
+
+    //필드 하나만 설정 (호출 지점이 한 클래스만 보므로 생성 accessor는 inline 가능)
+    @Benchmark
+    public Object generatedAccessorOneField() {
+        generatedAccessors[0].setDouble(target, 1.25);
+
+        return target;
+    }
+
+    @Benchmark
+    public Object reflectionAccessorOneField() {
+        reflectionAccessors[0].setDouble(target, 1.25);
+
+        return target;
+    }
+
+}
@@ -0,0 +1,49 @@
+package org.excel.bench;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.excel.annotation.ExcelColumnRead;
+import org.excel.annotation.ExcelColumnWrite;
+import org.excel.annotation.ExcelSheetInfo;
+
+/**
+ * 숫자 위주 5컬럼 row
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@ExcelSheetInfo(value = "data", rowOffset = 1)
+public class NarrowNumber {
+
+    @ExcelColumnWrite(value = "c0", column = 0)
+    @ExcelColumnRead(column = 0)
+    private double c0;
+
+    @ExcelColumnWrite(value = "c1", column = 1)
+    @ExcelColumnRead(column = 1)
+    private double c1;
+
+    @ExcelColumnWrite(value = "c2", column = 2)
+    @ExcelColumnRead(column = 2)
+    private double c2;
+
+    @ExcelColumnWrite(value = "c3", column = 3)
+    @ExcelColumnRead(column = 3)
+    private double c3;
+
+    @ExcelColumnWrite(value = "c4", column = 4)
+    @ExcelColumnRead(column = 4)
+    private double c4;
+
+    public static NarrowNumber of(int i) {
+        NarrowNumber row = new NarrowNumber();
+        row.c0 = i * 1.25;
+        row.c1 = i * 2.25;
+        row.c2 = i * 3.25;
+        row.c3 = i * 4.25;
+        row.c4 = i * 5.25;
+        return row;
+    }
+
+}
@@ -0,0 +1,49 @@
+package org.excel.bench;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.excel.annotation.ExcelColumnRead;
+import org.excel.annotation.ExcelColumnWrite;
+import org.excel.annotation.ExcelSheetInfo;
+
+/**
+ * 문자열 위주 5컬럼 row
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@ExcelSheetInfo(value = "data", rowOffset = 1)
+public class NarrowText {
+
+    @ExcelColumnWrite(value = "c0", column = 0)
+    @ExcelColumnRead(column = 0)
+    private String c0;
+
+    @ExcelColumnWrite(value = "c1", column = 1)
+    @ExcelColumnRead(column = 1)
+    private String c1;
+
+    @ExcelColumnWrite(value = "c2", column = 2)
+    @ExcelColumnRead(column = 2)
+    private String c2;
+
+    @ExcelColumnWrite(value = "c3", column = 3)
+    @ExcelColumnRead(column = 3)
+    private String c3;
+
+    @ExcelColumnWrite(value = "c4", column = 4)
+    @ExcelColumnRead(column = 4)
+    private String c4;
+
+    public static NarrowText of(int i) {
+        NarrowText row = new NarrowText();
+        row.c0 = "name-" + i;
+        row.c1 = BenchmarkData.word(i, 1);
+        row.c2 = BenchmarkData.word(i, 2);
+        row.c3 = BenchmarkData.word(i, 3);
+        row.c4 = BenchmarkData.word(i, 4);
+        return row;
+    }
+
+}
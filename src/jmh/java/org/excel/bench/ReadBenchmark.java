@@ -0,0 +1,65 @@
+package org.excel.bench;
+
+import org.excel.ExcelReadConverter;
+import org.excel.option.CsvFormat;
+import org.excel.option.ExcelReadOption;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.File;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * readExcel(LIST 시트) 처리량
+ * mode: USERMODEL(WorkbookFactory), STREAMING(StAX), CSV(텍스트 파서)
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+@Fork(value = 1, jvmArgsAppend = {"-Xms1g", "-Xmx4g"})
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 3, time = 5)
+public class ReadBenchmark {
+
+    @Param({"10000", "100000", "1000000"})
+    public int rows;
+
+    @Param({"NARROW", "WIDE"})
+    public String shape;
+
+    @Param({"STRING", "NUMERIC"})
+    public String content;
+
+    @Param({"USERMODEL", "STREAMING", "CSV"})
+    public String mode;
+
+    private File file;
+
+    private Class<?> type;
+
+    private ExcelReadConverter converter;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        boolean csv = "CSV".equals(mode);
+
+        file = BenchmarkData.workbook(shape, content, rows, csv ? "csv" : "xlsx").toFile();
+        type = BenchmarkData.rowType(shape, content);
+        converter = new ExcelReadConverter(switch (mode) {
+            case "STREAMING" -> ExcelReadOption.builder().streaming(true).build();
+            case "CSV" -> ExcelReadOption.builder().csv(CsvFormat.csv()).build();
+            default -> ExcelReadOption.defaults();
+        });
+    }
+
+    @Benchmark
+    public Object readExcel(RowCounter counter) throws Exception {
+        Map<String, Object> result = converter.readExcel(file, 0, type);
+
+        counter.rows += ((List<?>) result.get("data")).size();
+
+        return result;
+    }
+
+}
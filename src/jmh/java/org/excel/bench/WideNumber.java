@@ -0,0 +1,224 @@
+package org.excel.bench;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.excel.annotation.ExcelColumnRead;
+import org.excel.annotation.ExcelColumnWrite;
+import org.excel.annotation.ExcelSheetInfo;
+
+/**
+ * 숫자 위주 40컬럼 row
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@ExcelSheetInfo(value = "data", rowOffset = 1)
+public class WideNumber {
+
+    @ExcelColumnWrite(value = "c0", column = 0)
+    @ExcelColumnRead(column = 0)
+    private double c0;
+
+    @ExcelColumnWrite(value = "c1", column = 1)
+    @ExcelColumnRead(column = 1)
+    private double c1;
+
+    @ExcelColumnWrite(value = "c2", column = 2)
+    @ExcelColumnRead(column = 2)
+    private double c2;
+
+    @ExcelColumnWrite(value = "c3", column = 3)
+    @ExcelColumnRead(column = 3)
+    private double c3;
+
+    @ExcelColumnWrite(value = "c4", column = 4)
+    @ExcelColumnRead(column = 4)
+    private double c4;
+
+    @ExcelColumnWrite(value = "c5", column = 5)
+    @ExcelColumnRead(column = 5)
+    private double c5;
+
+    @ExcelColumnWrite(value = "c6", column = 6)
+    @ExcelColumnRead(column = 6)
+    private double c6;
+
+    @ExcelColumnWrite(value = "c7", column = 7)
+    @ExcelColumnRead(column = 7)
+    private double c7;
+
+    @ExcelColumnWrite(value = "c8", column = 8)
+    @ExcelColumnRead(column = 8)
+    private double c8;
+
+    @ExcelColumnWrite(value = "c9", column = 9)
+    @ExcelColumnRead(column = 9)
+    private double c9;
+
+    @ExcelColumnWrite(value = "c10", column = 10)
+    @ExcelColumnRead(column = 10)
+    private double c10;
+
+    @ExcelColumnWrite(value = "c11", column = 11)
+    @ExcelColumnRead(column = 11)
+    private double c11;
+
+    @ExcelColumnWrite(value = "c12", column = 12)
+    @ExcelColumnRead(column = 12)
+    private double c12;
+
+    @ExcelColumnWrite(value = "c13", column = 13)
+    @ExcelColumnRead(column = 13)
+    private double c13;
+
+    @ExcelColumnWrite(value = "c14", column = 14)
+    @ExcelColumnRead(column = 14)
+    private double c14;
+
+    @ExcelColumnWrite(value = "c15", column = 15)
+    @ExcelColumnRead(column = 15)
+    private double c15;
+
+    @ExcelColumnWrite(value = "c16", column = 16)
+    @ExcelColumnRead(column = 16)
+    private double c16;
+
+    @ExcelColumnWrite(value = "c17", column = 17)
+    @ExcelColumnRead(column = 17)
+    private double c17;
+
+    @ExcelColumnWrite(value = "c18", column = 18)
+    @ExcelColumnRead(column = 18)
+    private double c18;
+
+    @ExcelColumnWrite(value = "c19", column = 19)
+    @ExcelColumnRead(column = 19)
+    private double c19;
+
+    @ExcelColumnWrite(value = "c20", column = 20)
+    @ExcelColumnRead(column = 20)
+    private double c20;
+
+    @ExcelColumnWrite(value = "c21", column = 21)
+    @ExcelColumnRead(column = 21)
+    private double c21;
+
+    @ExcelColumnWrite(value = "c22", column = 22)
+    @ExcelColumnRead(column = 22)
+    private double c22;
+
+    @ExcelColumnWrite(value = "c23", column = 23)
+    @ExcelColumnRead(column = 23)
+    private double c23;
+
+    @ExcelColumnWrite(value = "c24", column = 24)
+    @ExcelColumnRead(column = 24)
+    private double c24;
+
+    @ExcelColumnWrite(value = "c25", column = 25)
+    @ExcelColumnRead(column = 25)
+    private double c25;
+
+    @ExcelColumnWrite(value = "c26", column = 26)
+    @ExcelColumnRead(column = 26)
+    private double c26;
+
+    @ExcelColumnWrite(value = "c27", column = 27)
+    @ExcelColumnRead(column = 27)
+    private double c27;
+
+    @ExcelColumnWrite(value = "c28", column = 28)
+    @ExcelColumnRead(column = 28)
+    private double c28;
+
+    @ExcelColumnWrite(value = "c29", column = 29)
+    @ExcelColumnRead(column = 29)
+    private double c29;
+
+    @ExcelColumnWrite(value = "c30", column = 30)
+    @ExcelColumnRead(column = 30)
+    private double c30;
+
+    @ExcelColumnWrite(value = "c31", column = 31)
+    @ExcelColumnRead(column = 31)
+    private double c31;
+
+    @ExcelColumnWrite(value = "c32", column = 32)
+    @ExcelColumnRead(column = 32)
+    private double c32;
+
+    @ExcelColumnWrite(value = "c33", column = 33)
+    @ExcelColumnRead(column = 33)
+    private double c33;
+
+    @ExcelColumnWrite(value = "c34", column = 34)
+    @ExcelColumnRead(column = 34)
+    private double c34;
+
+    @ExcelColumnWrite(value = "c35", column = 35)
+    @ExcelColumnRead(column = 35)
+    private double c35;
+
+    @ExcelColumnWrite(value = "c36", column = 36)
+    @ExcelColumnRead(column = 36)
+    private double c36;
+
+    @ExcelColumnWrite(value = "c37", column = 37)
+    @ExcelColumnRead(column = 37)
+    private double c37;
+
+    @ExcelColumnWrite(value = "c38", column = 38)
+    @ExcelColumnRead(column = 38)
+    private double c38;
+
+    @ExcelColumnWrite(value = "c39", column = 39)
+    @ExcelColumnRead(column = 39)
+    private double c39;
+
+    public static WideNumber of(int i) {
+        WideNumber row = new WideNumber();
+        row.c0 = i * 1.25;
+        row.c1 = i * 2.25;
+        row.c2 = i * 3.25;
+        row.c3 = i * 4.25;
+        row.c4 = i * 5.25;
+        row.c5 = i * 6.25;
+        row.c6 = i * 7.25;
+        row.c7 = i * 8.25;
+        row.c8 = i * 9.25;
+        row.c9 = i * 10.25;
+        row.c10 = i * 11.25;
+        row.c11 = i * 12.25;
+        row.c12 = i * 13.25;
+        row.c13 = i * 14.25;
+        row.c14 = i * 15.25;
+        row.c15 = i * 16.25;
+        row.c16 = i * 17.25;
+        row.c17 = i * 18.25;
+        row.c18 = i * 19.25;
+        row.c19 = i * 20.25;
+        row.c20 = i * 21.25;
+        row.c21 = i * 22.25;
+        row.c22 = i * 23.25;
+        row.c23 = i * 24.25;
+        row.c24 = i * 25.25;
+        row.c25 = i * 26.25;
+        row.c26 = i * 27.25;
+        row.c27 = i * 28.25;
+        row.c28 = i * 29.25;
+        row.c29 = i * 30.25;
+        row.c30 = i * 31.25;
+        row.c31 = i * 32.25;
+        row.c32 = i * 33.25;
+        row.c33 = i * 34.25;
+        row.c34 = i * 35.25;
+        row.c35 = i * 36.25;
+        row.c36 = i * 37.25;
+        row.c37 = i * 38.25;
+        row.c38 = i * 39.25;
+        row.c39 = i * 40.25;
+        return row;
+    }
+
+}
@@ -0,0 +1,224 @@
+package org.excel.bench;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.excel.annotation.ExcelColumnRead;
+import org.excel.annotation.ExcelColumnWrite;
+import org.excel.annotation.ExcelSheetInfo;
+
+/**
+ * 문자열 위주 40컬럼 row
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@ExcelSheetInfo(value = "data", rowOffset = 1)
+public class WideText {
+
+    @ExcelColumnWrite(value = "c0", column = 0)
+    @ExcelColumnRead(column = 0)
+    private String c0;
+
+    @ExcelColumnWrite(value = "c1", column = 1)
+    @ExcelColumnRead(column = 1)
+    private String c1;
+
+    @ExcelColumnWrite(value = "c2", column = 2)
+    @ExcelColumnRead(column = 2)
+    private String c2;
+
+    @ExcelColumnWrite(value = "c3", column = 3)
+    @ExcelColumnRead(column = 3)
+    private String c3;
+
+    @ExcelColumnWrite(value = "c4", column = 4)
+    @ExcelColumnRead(column = 4)
+    private String c4;
+
+    @ExcelColumnWrite(value = "c5", column = 5)
+    @ExcelColumnRead(column = 5)
+    private String c5;
+
+    @ExcelColumnWrite(value = "c6", column = 6)
+    @ExcelColumnRead(column = 6)
+    private String c6;
+
+    @ExcelColumnWrite(value = "c7", column = 7)
+    @ExcelColumnRead(column = 7)
+    private String c7;
+
+    @ExcelColumnWrite(value = "c8", column = 8)
+    @ExcelColumnRead(column = 8)
+    private String c8;
+
+    @ExcelColumnWrite(value = "c9", column = 9)
+    @ExcelColumnRead(column = 9)
+    private String c9;
+
+    @ExcelColumnWrite(value = "c10", column = 10)
+    @ExcelColumnRead(column = 10)
+    private String c10;
+
+    @ExcelColumnWrite(value = "c11", column = 11)
+    @ExcelColumnRead(column = 11)
+    private String c11;
+
+    @ExcelColumnWrite(value = "c12", column = 12)
+    @ExcelColumnRead(column = 12)
+    private String c12;
+
+    @ExcelColumnWrite(value = "c13", column = 13)
+    @ExcelColumnRead(column = 13)
+    private String c13;
+
+    @ExcelColumnWrite(value = "c14", column = 14)
+    @ExcelColumnRead(column = 14)
+    private String c14;
+
+    @ExcelColumnWrite(value = "c15", column = 15)
+    @ExcelColumnRead(column = 15)
+    private String c15;
+
+    @ExcelColumnWrite(value = "c16", column = 16)
+    @ExcelColumnRead(column = 16)
+    private String c16;
+
+    @ExcelColumnWrite(value = "c17", column = 17)
+    @ExcelColumnRead(column = 17)
+    private String c17;
+
+    @ExcelColumnWrite(value = "c18", column = 18)
+    @ExcelColumnRead(column = 18)
+    private String c18;
+
+    @ExcelColumnWrite(value = "c19", column = 19)
+    @ExcelColumnRead(column = 19)
+    private String c19;
+
+    @ExcelColumnWrite(value = "c20", column = 20)
+    @ExcelColumnRead(column = 20)
+    private String c20;
+
+    @ExcelColumnWrite(value = "c21", column = 21)
+    @ExcelColumnRead(column = 21)
+    private String c21;
+
+    @ExcelColumnWrite(value = "c22", column = 22)
+    @ExcelColumnRead(column = 22)
+    private String c22;
+
+    @ExcelColumnWrite(value = "c23", column = 23)
+    @ExcelColumnRead(column = 23)
+    private String c23;
+
+    @ExcelColumnWrite(value = "c24", column = 24)
+    @ExcelColumnRead(column = 24)
+    private String c24;
+
+    @ExcelColumnWrite(value = "c25", column = 25)
+    @ExcelColumnRead(column = 25)
+    private String c25;
+
+    @ExcelColumnWrite(value = "c26", column = 26)
+    @ExcelColumnRead(column = 26)
+    private String c26;
+
+    @ExcelColumnWrite(value = "c27", column = 27)
+    @ExcelColumnRead(column = 27)
+    private String c27;
+
+    @ExcelColumnWrite(value = "c28", column = 28)
+    @ExcelColumnRead(column = 28)
+    private String c28;
+
+    @ExcelColumnWrite(value = "c29", column = 29)
+    @ExcelColumnRead(column = 29)
+    private String c29;
+
+    @ExcelColumnWrite(value = "c30", column = 30)
+    @ExcelColumnRead(column = 30)
+    private String c30;
+
+    @ExcelColumnWrite(value = "c31", column = 31)
+    @ExcelColumnRead(column = 31)
+    private String c31;
+
+    @ExcelColumnWrite(value = "c32", column = 32)
+    @ExcelColumnRead(column = 32)
+    private String c32;
+
+    @ExcelColumnWrite(value = "c33", column = 33)
+    @ExcelColumnRead(column = 33)
+    private String c33;
+
+    @ExcelColumnWrite(value = "c34", column = 34)
+    @ExcelColumnRead(column = 34)
+    private String c34;
+
+    @ExcelColumnWrite(value = "c35", column = 35)
+    @ExcelColumnRead(column = 35)
+    private String c35;
+
+    @ExcelColumnWrite(value = "c36", column = 36)
+    @ExcelColumnRead(column = 36)
+    private String c36;
+
+    @ExcelColumnWrite(value = "c37", column = 37)
+    @ExcelColumnRead(column = 37)
+    private String c37;
+
+    @ExcelColumnWrite(value = "c38", column = 38)
+    @ExcelColumnRead(column = 38)
+    private String c38;
+
+    @ExcelColumnWrite(value = "c39", column = 39)
+    @ExcelColumnRead(column = 39)
+    private String c39;
+
+    public static WideText of(int i) {
+        WideText row = new WideText();
+        row.c0 = "name-" + i;
+        row.c1 = BenchmarkData.word(i, 1);
+        row.c2 = BenchmarkData.word(i, 2);
+        row.c3 = BenchmarkData.word(i, 3);
+        row.c4 = BenchmarkData.word(i, 4);
+        row.c5 = BenchmarkData.word(i, 5);
+        row.c6 = BenchmarkData.word(i, 6);
+        row.c7 = BenchmarkData.word(i, 7);
+        row.c8 = BenchmarkData.word(i, 8);
+        row.c9 = BenchmarkData.word(i, 9);
+        row.c10 = BenchmarkData.word(i, 10);
+        row.c11 = BenchmarkData.word(i, 11);
+        row.c12 = BenchmarkData.word(i, 12);
+        row.c13 = BenchmarkData.word(i, 13);
+        row.c14 = BenchmarkData.word(i, 14);
+        row.c15 = BenchmarkData.word(i, 15);
+        row.c16 = BenchmarkData.word(i, 16);
+        row.c17 = BenchmarkData.word(i, 17);
+        row.c18 = BenchmarkData.word(i, 18);
+        row.c19 = BenchmarkData.word(i, 19);
+        row.c20 = BenchmarkData.word(i, 20);
+        row.c21 = BenchmarkData.word(i, 21);
+        row.c22 = BenchmarkData.word(i, 22);
+        row.c23 = BenchmarkData.word(i, 23);
+        row.c24 = BenchmarkData.word(i, 24);
+        row.c25 = BenchmarkData.word(i, 25);
+        row.c26 = BenchmarkData.word(i, 26);
+        row.c27 = BenchmarkData.word(i, 27);
+        row.c28 = BenchmarkData.word(i, 28);
+        row.c29 = BenchmarkData.word(i, 29);
+        row.c30 = BenchmarkData.word(i, 30);
+        row.c31 = BenchmarkData.word(i, 31);
+        row.c32 = BenchmarkData.word(i, 32);
+        row.c33 = BenchmarkData.word(i, 33);
+        row.c34 = BenchmarkData.word(i, 34);
+        row.c35 = BenchmarkData.word(i, 35);
+        row.c36 = BenchmarkData.word(i, 36);
+        row.c37 = BenchmarkData.word(i, 37);
+        row.c38 = BenchmarkData.word(i, 38);
+        row.c39 = BenchmarkData.word(i, 39);
+        return row;
+    }
+
+}
@@ -0,0 +1,56 @@
+package org.excel.bench;
+
+import org.excel.ExcelWriteConverter;
+import org.excel.option.CsvFormat;
+import org.excel.option.ExcelWriteOption;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.OutputStream;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * writeExcel 처리량 (row는 작성 중에 생성, 결과는 버림)
+ * mode: XSSF(메모리), SXSSF(스트리밍), CSV
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+@Fork(value = 1, jvmArgsAppend = {"-Xms1g", "-Xmx4g"})
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 3, time = 5)
+public class WriteBenchmark {
+
+    @Param({"10000", "100000", "1000000"})
+    public int rows;
+
+    @Param({"NARROW", "WIDE"})
+    public String shape;
+
+    @Param({"STRING", "NUMERIC"})
+    public String content;
+
+    @Param({"XSSF", "SXSSF", "CSV"})
+    public String mode;
+
+    private Class<?> type;
+
+    private ExcelWriteConverter converter;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        type = BenchmarkData.rowType(shape, content);
+        converter = new ExcelWriteConverter(switch (mode) {
+            case "SXSSF" -> ExcelWriteOption.builder().streaming(true).build();
+            case "CSV" -> ExcelWriteOption.builder().csv(CsvFormat.csv()).build();
+            default -> ExcelWriteOption.defaults();
+        });
+    }
+
+    @Benchmark
+    public void writeExcel(RowCounter counter) throws Exception {
+        converter.writeExcel(OutputStream.nullOutputStream(), null, BenchmarkData.rows(type, rows));
+
+        counter.rows += rows;
+    }
+
+}
@@ -1,27 +1,62 @@
 package org.excel;
 
+import org.apache.poi.poifs.filesystem.FileMagic;
 import org.apache.poi.ss.usermodel.*;
 import org.excel.annotation.ExcelColumnRead;
 import org.excel.annotation.ExcelSheetInfo;
+import org.excel.convert.ConvertResult;
+import org.excel.convert.ReadConverters;
+import org.excel.enums.ExcelPhase;
+import org.excel.enums.SheetType;
+import org.excel.meta.ColumnLayout;
+import org.excel.meta.ExcelClassMeta;
+import org.excel.meta.ExcelMetaRegistry;
+import org.excel.meta.ReadColumn;
+import org.excel.metrics.CountingInputStream;
+import org.excel.metrics.ExcelMetrics;
+import org.excel.option.ExcelReadOption;
+import org.excel.read.*;
+import org.excel.validation.ReadErrors;
 
 import java.io.File;
 import java.io.FileInputStream;
 import java.io.IOException;
 import java.io.InputStream;
-import java.lang.reflect.Field;
+import java.io.InterruptedIOException;
+import java.io.UncheckedIOException;
 import java.lang.reflect.InvocationTargetException;
-import java.time.LocalDate;
-import java.time.LocalDateTime;
-import java.time.format.DateTimeFormatter;
-import java.util.ArrayList;
-import java.util.HashMap;
-import java.util.List;
-import java.util.Map;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.*;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 public class ExcelReadConverter {
 
+    private final ExcelReadOption option;
+
+    public ExcelReadConverter() {
+        this(ExcelReadOption.defaults());
+    }
+
+    public ExcelReadConverter(ExcelReadOption option) {
+        this.option = option;
+    }
+
     public Map<String, Object> readExcel(File file, int dynamicOffset, Class<?>... classes) throws IOException, InvocationTargetException, NoSuchMethodException, InstantiationException, IllegalAccessException {
-        return readExcel(new FileInputStream(file), dynamicOffset, classes);
+        try (InputStream inputStream = new FileInputStream(file)) {
+            return readExcel(inputStream, dynamicOffset, classes);
+        }
     }
 
     public Map<String, Object> readExcel(InputStream file, int dynamicOffset, Class<?>... classes) throws IOException, InvocationTargetException, NoSuchMethodException, InstantiationException, IllegalAccessException {
@@ -29,207 +64,682 @@ public class ExcelReadConverter {
         Map<String, Object> response = new HashMap<>();
 
         //파일 읽어오기
-        try (Workbook workbook = WorkbookFactory.create(file)) {
-            for (Class<?> aClass : classes) {
-                //annotation check
-                if (aClass.isAnnotationPresent(ExcelSheetInfo.class)) {
-                    //annotation 조회
-                    ExcelSheetInfo sheetInfo = aClass.getAnnotation(ExcelSheetInfo.class);
+        try (ReadSession session = new ReadSession(open(file), newErrors())) {
+            //시트별 병렬 읽기
+            if (option.getSheetExecutor() != null && session.getSource().isConcurrent()) {
+                readSheetsParallel(session, dynamicOffset, classes, response);
+                session.checkErrors();
+                return response;
+            }
 
-                    Object excelRead = switch (sheetInfo.type()) {
-                        //리스트 타입의 엑셀
-                        case LIST -> readList(sheetInfo, dynamicOffset, aClass, workbook);
-                        //필드 타입의 엑셀
-                        case FIELD -> readFields(sheetInfo, aClass, workbook);
-                    };
+            for (Class<?> aClass : classes) {
+                //클래스 매핑 정보 조회 (클래스당 한 번만 생성)
+                ExcelClassMeta meta = ExcelMetaRegistry.get(aClass);
 
+                //annotation check
+                if (meta.getSheetInfo() != null) {
                     //지정한 이름이 아니면 클래스명으로 집어넣음
-                    response.put(sheetInfo.value() != null && !sheetInfo.value().isEmpty() ? sheetInfo.value() : aClass.getSimpleName(), excelRead);
+                    response.put(meta.getSheetKey(), readSheet(meta, dynamicOffset, session));
                 }
             }
+
+            //검증 오류가 있으면 예외
+            session.checkErrors();
         }
 
         return response;
     }
 
+    /**
+     * 클래스별 시트를 sheetExecutor에서 동시에 읽음
+     * 모든 작업이 끝난 뒤에 source를 닫을 수 있도록 실패가 있어도 전부 대기
+     */
+    private void readSheetsParallel(ReadSession session, int dynamicOffset, Class<?>[] classes, Map<String, Object> response)
+            throws IOException, InvocationTargetException, NoSuchMethodException, InstantiationException, IllegalAccessException {
+        Map<String, CompletableFuture<Object>> futures = new LinkedHashMap<>();
+
+        for (Class<?> aClass : classes) {
+            ExcelClassMeta meta = ExcelMetaRegistry.get(aClass);
+
+            if (meta.getSheetInfo() != null) {
+                futures.put(meta.getSheetKey(), CompletableFuture.supplyAsync(() -> {
+                    try {
+                        return readSheet(meta, dynamicOffset, session);
+                    } catch (Exception e) {
+                        throw new CompletionException(e);
+                    }
+                }, option.getSheetExecutor()));
+            }
+        }
+
+        Throwable failure = null;
+
+        for (Map.Entry<String, CompletableFuture<Object>> entry : futures.entrySet()) {
+            try {
+                response.put(entry.getKey(), entry.getValue().join());
+            } catch (CompletionException e) {
+                if (failure == null) failure = e;
+            }
+        }
+
+        if (failure != null) {
+            rethrow(failure);
+        }
+    }
+
+    /**
+     * 시트 타입에 맞게 읽기
+     */
+    private Object readSheet(ExcelClassMeta meta, int dynamicOffset, ReadSession session)
+            throws IOException, InvocationTargetException, NoSuchMethodException, InstantiationException, IllegalAccessException {
+        return switch (meta.getSheetInfo().type()) {
+            //리스트 타입의 엑셀
+            case LIST -> readList(meta, dynamicOffset, session);
+            //필드 타입의 엑셀
+            case FIELD -> readFields(meta, session);
+        };
+    }
+
+    private static void rethrow(Throwable e) throws IOException, InvocationTargetException, NoSuchMethodException, InstantiationException, IllegalAccessException {
+        //비동기 작업에서 감싼 예외 해제
+        while ((e instanceof CompletionException || e instanceof ExecutionException) && e.getCause() != null) {
+            e = e.getCause();
+        }
+
+        if (e instanceof IOException ioException) throw ioException;
+        if (e instanceof InvocationTargetException invocationTargetException) throw invocationTargetException;
+        if (e instanceof NoSuchMethodException noSuchMethodException) throw noSuchMethodException;
+        if (e instanceof InstantiationException instantiationException) throw instantiationException;
+        if (e instanceof IllegalAccessException illegalAccessException) throw illegalAccessException;
+        if (e instanceof RuntimeException runtimeException) throw runtimeException;
+        if (e instanceof Error error) throw error;
+
+        throw new IllegalStateException(e);
+    }
+
+    public <T> Stream<T> streamSheet(InputStream file, Class<T> aClass) throws IOException {
+        return streamSheet(file, 0, aClass);
+    }
+
+    /**
+     * LIST 시트를 row 단위로 변환하는 Stream
+     * 스트리밍 옵션 사용시 메모리에는 현재 row 하나만 유지되며, 사용 후 close 필요
+     */
+    public <T> Stream<T> streamSheet(InputStream file, int dynamicOffset, Class<T> aClass) throws IOException {
+        ExcelRowIterator<T> iterator = iterateSheet(file, dynamicOffset, aClass);
+
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(iterator, Spliterator.ORDERED | Spliterator.NONNULL), false)
+                .onClose(() -> {
+                    try {
+                        iterator.close();
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+    }
+
+    public <T> ExcelRowIterator<T> iterateSheet(InputStream file, Class<T> aClass) throws IOException {
+        return iterateSheet(file, 0, aClass);
+    }
+
+    /**
+     * LIST 시트를 row 단위로 변환하는 iterator
+     * 끝까지 읽으면 자동으로 닫히며, 중간에 멈출 경우 close 필요
+     */
+    public <T> ExcelRowIterator<T> iterateSheet(InputStream file, int dynamicOffset, Class<T> aClass) throws IOException {
+        ExcelClassMeta meta = ExcelMetaRegistry.get(aClass);
+        ExcelSheetInfo sheetInfo = meta.getSheetInfo();
+
+        if (sheetInfo == null || sheetInfo.type() != SheetType.LIST) {
+            throw new IllegalArgumentException(aClass.getName() + " is not a LIST type @ExcelSheetInfo class");
+        }
+
+        int startRow = sheetInfo.rowOffset() + dynamicOffset;
+
+        ReadSession session = new ReadSession(open(file), newErrors());
+
+        try {
+            //참조 시트는 row 변환 전에 한 번만 읽음
+            loadNestedSheets(meta, session);
+
+            RowCursor cursor = openCursor(meta, session);
+            ConvertResult result = newResult(meta, session);
+            ColumnLayout[] layout = {initialLayout(meta)};
+
+            RowMapper<T> mapper = (rowNum, row) -> {
+                layout[0] = layoutAt(meta, layout[0], rowNum, row, startRow);
+
+                //시작 row 이전은 건너뛰기
+                if (rowNum < startRow) return null;
+
+                result.setRowNum(rowNum);
+
+                return aClass.cast(mapRow(meta, layout[0], row, session, result));
+            };
+
+            if (!option.getMetrics().isEnabled()) {
+                return new ExcelRowIterator<>(cursor, session, mapper, session::checkErrors);
+            }
+
+            //변환한 row 수, 변환 시간 (iterator를 사용하는 쪽의 처리 시간은 제외하고 close시 통지)
+            long[] stats = new long[2];
+
+            return new ExcelRowIterator<>(cursor, () -> {
+                try {
+                    reportSheet(meta, cursor, ((TimedRowCursor) cursor).getNanos() + stats[1], stats[0], result.getCells());
+                } finally {
+                    session.close();
+                }
+            }, (rowNum, row) -> {
+                long start = System.nanoTime();
+                T mapped = mapper.map(rowNum, row);
+
+                stats[1] += System.nanoTime() - start;
+                if (mapped != null) stats[0]++;
+
+                return mapped;
+            }, session::checkErrors);
+        } catch (IOException | RuntimeException e) {
+            session.close();
+            throw e;
+        } catch (ReflectiveOperationException e) {
+            session.close();
+            throw new IllegalStateException(e);
+        }
+    }
+
+    public <T> void readInBatches(InputStream file, Class<T> aClass, int batchSize, Consumer<List<T>> consumer) throws IOException {
+        readInBatches(file, 0, aClass, batchSize, consumer);
+    }
+
+    /**
+     * LIST 시트를 batchSize 단위로 consumer에 전달 (파싱 thread에서 호출)
+     */
+    public <T> void readInBatches(InputStream file, int dynamicOffset, Class<T> aClass, int batchSize, Consumer<List<T>> consumer) throws IOException {
+        readInBatches(file, dynamicOffset, aClass, batchSize, 0, null, consumer);
+    }
+
+    /**
+     * LIST 시트를 batchSize 단위로 consumer에 전달
+     * executor가 있으면 consumer는 executor에서 실행되어 파싱과 동시에 처리되며,
+     * 대기 batch가 queueCapacity(executor 사용시 1 이상)를 넘으면 파싱이 멈춤 (backpressure)
+     * executor가 작업을 호출 thread에서 바로 실행하면 consumer도 파싱 thread에서 실행
+     */
+    public <T> void readInBatches(InputStream file, int dynamicOffset, Class<T> aClass, int batchSize,
+                                  int queueCapacity, Executor executor, Consumer<List<T>> consumer) throws IOException {
+        try (ExcelRowIterator<T> iterator = iterateSheet(file, dynamicOffset, aClass)) {
+            BatchDispatcher<T> dispatcher = new BatchDispatcher<>(batchSize, queueCapacity, executor, consumer);
+
+            try {
+                while (iterator.hasNext()) {
+                    dispatcher.add(iterator.next());
+                }
+
+                dispatcher.finish();
+            } catch (IOException | RuntimeException | Error e) {
+                dispatcher.abort();
+                throw e;
+            }
+        }
+    }
+
+    /**
+     * 읽기 엔진 생성, metrics 사용시 읽은 byte 수와 열기 시간 통지
+     * 모든 엔진은 생성시 입력을 끝까지 읽음 (메모리 로드 또는 임시 파일 저장)
+     */
+    private SheetSource open(InputStream file) throws IOException {
+        ExcelMetrics metrics = option.getMetrics();
+
+        if (!metrics.isEnabled()) return openSource(file);
+
+        CountingInputStream countingInputStream = new CountingInputStream(file);
+        long start = System.nanoTime();
+
+        SheetSource source = openSource(countingInputStream);
+
+        metrics.phase(null, ExcelPhase.OPEN, System.nanoTime() - start);
+        metrics.bytesRead(countingInputStream.getCount());
+
+        return source;
+    }
+
+    /**
+     * 옵션에 맞는 읽기 엔진 생성
+     */
+    private SheetSource openSource(InputStream file) throws IOException {
+        //CSV 형식이 지정되면 workbook이 아닌 입력은 텍스트 파서로 읽음
+        if (option.getCsv() != null) {
+            file = FileMagic.prepareToCheckMagic(file);
+
+            FileMagic fileMagic = FileMagic.valueOf(file);
+
+            if (fileMagic != FileMagic.OOXML && fileMagic != FileMagic.OLE2) {
+                return CsvSheetSource.spool(file, option.getCsv());
+            }
+        }
+
+        //시트 병렬 읽기는 thread-safe한 이벤트 엔진 필요
+        if (!option.isStreaming() && option.getSheetExecutor() == null) {
+            return new PoiSheetSource(WorkbookFactory.create(file));
+        }
+
+        //xlsx zip 임의 접근을 위해 임시 파일로 저장 (메모리에 올리지 않음)
+        File tempFile = Files.createTempFile("excel-read", ".tmp").toFile();
+
+        try {
+            Files.copy(file, tempFile.toPath(), StandardCopyOption.REPLACE_EXISTING);
+
+            FileMagic fileMagic = FileMagic.valueOf(tempFile);
+
+            //임시 파일은 source close시 삭제
+            if (fileMagic == FileMagic.OOXML) {
+                return new XlsxSheetSource(tempFile, true, option.isCompactSharedStrings(), option.getSharedStringsSpillSize());
+            }
+
+            //xls는 레코드 스트림으로 읽음
+            if (fileMagic == FileMagic.OLE2) {
+                return new HssfSheetSource(tempFile, true);
+            }
+
+            //그 외는 기존 방식으로 읽음
+            try (InputStream inputStream = new FileInputStream(tempFile)) {
+                Files.deleteIfExists(tempFile.toPath());
+                return new PoiSheetSource(WorkbookFactory.create(inputStream));
+            }
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(tempFile.toPath());
+            throw e;
+        }
+    }
+
     /**
      * Collection 타입의 엑셀 converting
      */
-    private Object readList(ExcelSheetInfo sheetInfo, int dynamicOffset, Class<?> aClass, Workbook workbook)
-            throws NoSuchMethodException, InvocationTargetException, InstantiationException, IllegalAccessException {
-        //해당 class의 sheet 찾기
-        Sheet sheet = workbook.getSheetAt(sheetInfo.sheetNum());
+    private Object readList(ExcelClassMeta meta, int dynamicOffset, ReadSession session)
+            throws IOException, NoSuchMethodException, InvocationTargetException, InstantiationException, IllegalAccessException {
+        ExcelSheetInfo sheetInfo = meta.getSheetInfo();
 
         List<Object> responses = new ArrayList<>();
 
-        int lastRowNum = sheet.getLastRowNum();
+        int startRow = sheetInfo.rowOffset() + dynamicOffset;
+
+        //해당 class의 sheet 찾기 (존재하는 row만 조회됨)
+        //참조 시트는 row 변환 전에 한 번만 읽음
+        loadNestedSheets(meta, session);
+
+        try (RowCursor cursor = openCursor(meta, session)) {
+            //row 변환 병렬 처리
+            if (option.getRowPool() != null) {
+                return readListParallel(meta, startRow, cursor, session);
+            }
+
+            ConvertResult result = newResult(meta, session);
+            ColumnLayout layout = initialLayout(meta);
+            long start = System.nanoTime();
+
+            while (cursor.next()) {
+                layout = layoutAt(meta, layout, cursor.getRowNum(), cursor.getRow(), startRow);
+
+                //시작 row 이전은 건너뛰기
+                if (cursor.getRowNum() < startRow) {
+                    continue;
+                }
 
-        for (int i = sheetInfo.rowOffset() + dynamicOffset; i <= lastRowNum; i++) {
-            //row 조회
-            Row row = sheet.getRow(i);
+                result.setRowNum(cursor.getRowNum());
 
-            //기본 생성자로 인스턴스 생성
-            Object response = aClass.getDeclaredConstructor().newInstance();
+                Object response = mapRow(meta, layout, cursor.getRow(), session, result);
 
-            //row가 없으면 건너뛰기
-            if (row == null) {
+                if (response != null) {
+                    responses.add(response);
+                }
+            }
+
+            reportSheet(meta, cursor, System.nanoTime() - start, responses.size(), result.getCells());
+        }
+
+        return responses;
+    }
+
+    /**
+     * row를 chunk 단위로 복사해 rowPool에서 병렬 변환
+     * 파싱은 현재 thread에서 계속 진행되고, 결과는 chunk 순서대로 합쳐 row 순서 유지
+     */
+    private List<Object> readListParallel(ExcelClassMeta meta, int startRow, RowCursor cursor, ReadSession session)
+            throws IOException, NoSuchMethodException, InvocationTargetException, InstantiationException, IllegalAccessException {
+        int chunkSize = Math.max(option.getRowChunkSize(), 1);
+
+        List<ForkJoinTask<List<Object>>> tasks = new ArrayList<>();
+        List<ReadRow> chunk = new ArrayList<>(chunkSize);
+        int[] rowNums = new int[chunkSize];
+        ColumnLayout layout = initialLayout(meta);
+        LongAdder cells = new LongAdder();
+        //변환 실패(maxErrors 도달 등)시 파싱 중단
+        AtomicBoolean failed = new AtomicBoolean();
+        long start = System.nanoTime();
+
+        while (!failed.get() && cursor.next()) {
+            layout = layoutAt(meta, layout, cursor.getRowNum(), cursor.getRow(), startRow);
+
+            //시작 row 이전은 건너뛰기
+            if (cursor.getRowNum() < startRow) {
                 continue;
             }
 
-            boolean isNotEmpty = false;
+            rowNums[chunk.size()] = cursor.getRowNum();
+            chunk.add(cursor.getRow().snapshot());
 
-            for (Field field : aClass.getDeclaredFields()) {
-                //필드 어노테이션 있는지 체크
-                if (field.isAnnotationPresent(ExcelColumnRead.class)) {
-                    //해당 어노테이션 조회
-                    ExcelColumnRead fieldInfo = field.getAnnotation(ExcelColumnRead.class);
+            if (chunk.size() >= chunkSize) {
+                tasks.add(option.getRowPool().submit(mapChunk(meta, layout, chunk, rowNums, session, cells, failed)));
+                chunk = new ArrayList<>(chunkSize);
+                rowNums = new int[chunkSize];
+            }
+        }
 
-                    if (fieldInfo.isCollection()) {
-                        isNotEmpty = readCollectionField(field, fieldInfo, row, workbook, response);
-                    } else {
-                        //셀 조회 후 타입에 맞게 convert
-                        Object value = convertCell(row.getCell(fieldInfo.column()), field.getType(), fieldInfo);
+        if (!chunk.isEmpty() && !failed.get()) {
+            tasks.add(option.getRowPool().submit(mapChunk(meta, layout, chunk, rowNums, session, cells, failed)));
+        }
+
+        //실패가 있으면 아직 시작하지 않은 chunk는 취소
+        if (failed.get()) {
+            tasks.forEach(task -> task.cancel(false));
+        }
+
+        List<Object> responses = new ArrayList<>();
+        Throwable failure = null;
+
+        //실패가 있어도 모든 chunk가 끝날 때까지 대기
+        for (ForkJoinTask<List<Object>> task : tasks) {
+            try {
+                List<Object> mapped = task.get();
+
+                if (failure == null) responses.addAll(mapped);
+            } catch (ExecutionException e) {
+                if (failure == null) failure = e.getCause();
+            } catch (CancellationException e) {
+                //실패로 취소된 chunk
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                tasks.forEach(t -> t.cancel(true));
+                throw new InterruptedIOException("row mapping interrupted");
+            }
+        }
+
+        if (failure != null) {
+            rethrow(failure);
+        }
+
+        reportSheet(meta, cursor, System.nanoTime() - start, responses.size(), cells.sum());
+
+        return responses;
+    }
+
+    private Callable<List<Object>> mapChunk(ExcelClassMeta meta, ColumnLayout layout, List<ReadRow> chunk, int[] rowNums,
+                                            ReadSession session, LongAdder cells, AtomicBoolean failed) {
+        return () -> {
+            List<Object> mapped = new ArrayList<>(chunk.size());
+            ConvertResult result = newResult(meta, session);
+
+            try {
+                //다른 chunk가 실패하면 남은 row는 변환하지 않음 (결과는 사용되지 않음)
+                for (int i = 0; i < chunk.size() && !failed.get(); i++) {
+                    result.setRowNum(rowNums[i]);
 
-                        if (!isNotEmpty && (value != null && !value.toString().isEmpty())) {
-                            isNotEmpty = true;
-                        }
+                    Object response = mapRow(meta, layout, chunk.get(i), session, result);
 
-                        //field set
-                        field.setAccessible(true);
-                        field.set(response, value);
+                    if (response != null) {
+                        mapped.add(response);
                     }
                 }
+            } catch (IOException | ReflectiveOperationException e) {
+                failed.set(true);
+                throw new CompletionException(e);
+            } catch (RuntimeException | Error e) {
+                failed.set(true);
+                throw e;
+            } finally {
+                cells.add(result.getCells());
             }
 
-            if (isNotEmpty) {
-                responses.add(response);
+            return mapped;
+        };
+    }
+
+    /**
+     * 클래스의 시트 cursor, metrics 사용시 파싱 시간 측정
+     */
+    private RowCursor openCursor(ExcelClassMeta meta, ReadSession session) throws IOException {
+        RowCursor cursor = session.getSource().openSheet(sheetIndex(meta.getSheetInfo(), session.getSource()));
+
+        return option.getMetrics().isEnabled() ? new TimedRowCursor(cursor) : cursor;
+    }
+
+    /**
+     * 변환 결과 holder, metrics 사용시 변환 실패 통지
+     */
+    private ConvertResult newResult(ExcelClassMeta meta, ReadSession session) {
+        ConvertResult result = new ConvertResult();
+
+        if (option.getMetrics().isEnabled() || session.getErrors() != null) {
+            result.track(option.getMetrics().isEnabled() ? option.getMetrics() : null, session.getErrors(), meta.getSheetKey());
+        }
+
+        return result;
+    }
+
+    /**
+     * 검증 옵션 사용시 파일 한 번 읽기의 오류 수집
+     */
+    private ReadErrors newErrors() {
+        return option.isValidate() ? new ReadErrors(option.getMaxErrors()) : null;
+    }
+
+    /**
+     * 시트 측정값 통지, CONVERT는 전체 시간에서 파싱 시간을 뺀 값
+     * (병렬 row 변환시 파싱이 끝난 뒤 변환 완료까지 대기한 시간)
+     */
+    private void reportSheet(ExcelClassMeta meta, RowCursor cursor, long nanos, long rows, long cells) {
+        ExcelMetrics metrics = option.getMetrics();
+
+        if (!metrics.isEnabled()) return;
+
+        long parseNanos = ((TimedRowCursor) cursor).getNanos();
+
+        metrics.phase(meta.getSheetKey(), ExcelPhase.PARSE, parseNanos);
+        metrics.phase(meta.getSheetKey(), ExcelPhase.CONVERT, nanos - parseNanos);
+        metrics.sheet(meta.getSheetKey(), rows, cells, nanos);
+    }
+
+    /**
+     * 헤더로 계산하는 클래스는 헤더 row 전까지 null, 그 외는 annotation 컬럼 번호
+     */
+    private static ColumnLayout initialLayout(ExcelClassMeta meta) {
+        return meta.isHeaderResolved() ? null : meta.getPositionalLayout();
+    }
+
+    /**
+     * row 번호에 맞는 컬럼 위치
+     * 헤더 매핑, dynamicSide 클래스는 헤더 row(시작 row 바로 위)에서 한 번만 계산
+     * 헤더 row 없이 데이터 row가 나오면 header 매핑은 예외, dynamicSide는 row 끝까지 읽음
+     */
+    private static ColumnLayout layoutAt(ExcelClassMeta meta, ColumnLayout layout, int rowNum, ReadRow row, int startRow) {
+        if (!meta.isHeaderResolved()) return layout;
+
+        if (rowNum == startRow - 1) return meta.resolveLayout(row);
+
+        if (rowNum >= startRow && layout == null) return meta.resolveLayout(null);
+
+        return layout;
+    }
+
+    /**
+     * 시트 번호 조회, findByName이면 시트 이름으로 조회
+     */
+    private static int sheetIndex(ExcelSheetInfo sheetInfo, SheetSource source) {
+        if (!sheetInfo.findByName()) return sheetInfo.sheetNum();
+
+        int index = source.getSheetIndex(sheetInfo.value());
+
+        if (index < 0) {
+            throw new IllegalArgumentException("Sheet not found : " + sheetInfo.value());
+        }
+
+        return index;
+    }
+
+    /**
+     * LIST 시트의 row 하나를 DTO로 변환, 빈 row는 null
+     * layout은 readColumns 순서의 컬럼 위치
+     */
+    private Object mapRow(ExcelClassMeta meta, ColumnLayout layout, ReadRow row, ReadSession session, ConvertResult result)
+            throws IOException, NoSuchMethodException, InvocationTargetException, InstantiationException, IllegalAccessException {
+        //기본 생성자로 인스턴스 생성
+        Object response = meta.newInstance();
+
+        boolean isNotEmpty = false;
+
+        ReadColumn[] readColumns = meta.getReadColumns();
+
+        for (int i = 0; i < readColumns.length; i++) {
+            ReadColumn column = readColumns[i];
+
+            if (column.isJoined()) {
+                //join은 join 기준 필드를 읽은 뒤 설정
+                continue;
+            }
+
+            if (column.getInfo().isCollection()) {
+                isNotEmpty = readCollectionField(column, layout.column(i), layout.end(i), row, session, response, result);
+            } else if (column.read(row, layout.column(i), response, result)) {
+                //셀 조회 후 타입에 맞게 convert 및 field set
+                isNotEmpty = true;
             }
         }
 
-        return responses;
+        applyJoins(meta, response, session);
+
+        //빈 row의 검증 오류는 무시
+        result.endRow(isNotEmpty);
+
+        return isNotEmpty ? response : null;
     }
 
     /**
      * 필드 타입의 엑셀 convering
      */
-    private Object readFields(ExcelSheetInfo sheetInfo, Class<?> aClass, Workbook workbook)
-            throws NoSuchMethodException, InvocationTargetException, InstantiationException, IllegalAccessException {
-        Sheet sheet = workbook.getSheetAt(sheetInfo.sheetNum());
+    private Object readFields(ExcelClassMeta meta, ReadSession session)
+            throws IOException, NoSuchMethodException, InvocationTargetException, InstantiationException, IllegalAccessException {
+        Object response = meta.newInstance();
+        ConvertResult result = newResult(meta, session);
 
-        Object response = aClass.getDeclaredConstructor().newInstance();
+        //참조 시트는 한 번만 읽음
+        loadNestedSheets(meta, session);
 
-        for (Field field : aClass.getDeclaredFields()) {
-            //필드 어노테이션 있는지 체크
-            if (field.isAnnotationPresent(ExcelColumnRead.class)) {
-                //해당 어노테이션 조회
-                ExcelColumnRead fieldInfo = field.getAnnotation(ExcelColumnRead.class);
+        try (RowCursor cursor = openCursor(meta, session)) {
+            long start = System.nanoTime();
 
-                Row row = sheet.getRow(fieldInfo.row());
+            //필요한 마지막 row까지만 읽음
+            while (cursor.next() && cursor.getRowNum() <= meta.getLastReadRow()) {
+                ReadRow row = cursor.getRow();
 
-                if (fieldInfo.isCollection()) {
-                    readCollectionField(field, fieldInfo, row, workbook, response);
-                } else {
-                    //cell 조회
-                    Cell cell = row.getCell(fieldInfo.column());
+                result.setRowNum(cursor.getRowNum());
 
-                    //셀 조회 후 타입에 맞게 convert
-                    Object value = convertCell(cell, field.getType(), fieldInfo);
+                for (ReadColumn column : meta.getReadColumns()) {
+                    ExcelColumnRead fieldInfo = column.getInfo();
 
-                    //field set
-                    field.setAccessible(true);
-                    field.set(response, value);
+                    if (fieldInfo.row() != cursor.getRowNum() || column.isJoined()) {
+                        continue;
+                    }
+
+                    if (fieldInfo.isCollection()) {
+                        readCollectionField(column, fieldInfo.column(), -1, row, session, response, result);
+                    } else {
+                        //셀 조회 후 타입에 맞게 convert 및 field set
+                        column.read(row, fieldInfo.column(), response, result);
+                    }
                 }
+
+                result.endRow(true);
             }
+
+            reportSheet(meta, cursor, System.nanoTime() - start, 1, result.getCells());
         }
 
+        applyJoins(meta, response, session);
+
         return response;
     }
 
     /**
      * Collection 타입의 필드 converting
      */
-    private boolean readCollectionField(Field field, ExcelColumnRead fieldInfo, Row row, Workbook workbook, Object response) throws IllegalAccessException, InvocationTargetException, NoSuchMethodException, InstantiationException {
-        Class<?> fieldClass = fieldInfo.fieldClass();
+    private boolean readCollectionField(ReadColumn column, int start, int end, ReadRow row, ReadSession session, Object response, ConvertResult convertResult)
+            throws IOException, IllegalAccessException, InvocationTargetException, NoSuchMethodException, InstantiationException {
+        //셀 범위 collection (end가 없으면 row의 마지막 셀까지)
+        if (column.isDynamic()) {
+            return column.readElements(row, start, end >= 0 ? end : row.getLastCellNum(), response, convertResult);
+        }
 
-        boolean isNotEmpty = false;
-        Object result = null;
+        //참조 시트 결과는 모든 row에서 공유
+        column.getAccessor().set(response, readNestedSheet(ExcelMetaRegistry.get(column.getInfo().fieldClass()), session));
 
-        if (fieldClass.isAnnotationPresent(ExcelSheetInfo.class)) {
-            ExcelSheetInfo fieldSheetInfo = fieldClass.getDeclaredAnnotation(ExcelSheetInfo.class);
+        return false;
+    }
 
-            result = switch (fieldSheetInfo.type()) {
-                //리스트 타입의 엑셀
-                case LIST -> readList(fieldSheetInfo, 0, fieldClass, workbook);
-                //필드 타입의 엑셀
-                case FIELD -> readFields(fieldSheetInfo, fieldClass, workbook);
-            };
-        } else {
-            List<Object> collectionField = new ArrayList<>();
+    /**
+     * 클래스가 참조하는 시트를 row 변환 전에 미리 읽음 (병렬 row 변환 중에 시트를 읽지 않도록)
+     */
+    private void loadNestedSheets(ExcelClassMeta meta, ReadSession session)
+            throws IOException, IllegalAccessException, InvocationTargetException, NoSuchMethodException, InstantiationException {
+        for (ReadColumn column : meta.getReadColumns()) {
+            if (!column.getInfo().isCollection() || column.isDynamic()) continue;
+
+            Object nested = readNestedSheet(ExcelMetaRegistry.get(column.getInfo().fieldClass()), session);
 
-            for (int j = fieldInfo.column(); j < row.getLastCellNum(); j++) {
-                Object value = convertCell(row.getCell(j), fieldClass, fieldInfo);
+            //join 컬럼은 join 값 기준 index 생성
+            if (column.isJoined() && session.getNested(column) == null) {
+                Map<Object, List<Object>> index = new HashMap<>();
 
-                if (!isNotEmpty && (value != null && !value.toString().isEmpty())) {
-                    isNotEmpty = true;
+                if (nested instanceof List<?> elements) {
+                    for (Object element : elements) {
+                        index.computeIfAbsent(column.joinFieldOf(element), key -> new ArrayList<>()).add(element);
+                    }
                 }
 
-                collectionField.add(value);
+                session.putNested(column, index);
             }
-
-            result = collectionField;
         }
+    }
+
+    /**
+     * 참조 시트는 파일 한 번 읽기에서 한 번만 읽음
+     */
+    private Object readNestedSheet(ExcelClassMeta fieldMeta, ReadSession session)
+            throws IOException, IllegalAccessException, InvocationTargetException, NoSuchMethodException, InstantiationException {
+        Object nested = session.getNested(fieldMeta);
+
+        if (nested != null) return nested;
 
-        field.setAccessible(true);
-        field.set(response, result);
+        nested = switch (fieldMeta.getSheetInfo().type()) {
+            //리스트 타입의 엑셀
+            case LIST -> readList(fieldMeta, 0, session);
+            //필드 타입의 엑셀
+            case FIELD -> readFields(fieldMeta, session);
+        };
 
-        return isNotEmpty;
+        return session.putNested(fieldMeta, nested);
     }
 
     /**
-     * cell 값 원하는 타입으로 converting
+     * join collection 필드에 join 값이 같은 참조 시트 원소만 설정
      */
-    private Object convertCell(Cell cell, Class<?> type, ExcelColumnRead fieldInfo) {
-        try {
-            String value = cell.toString();
+    @SuppressWarnings("unchecked")
+    private static void applyJoins(ExcelClassMeta meta, Object response, ReadSession session) {
+        for (ReadColumn column : meta.getReadColumns()) {
+            if (!column.isJoined()) continue;
 
-            if (type == String.class) {
-                if (cell.getCellType() == CellType.NUMERIC) {
-                    double num = cell.getNumericCellValue();
+            Map<Object, List<Object>> index = (Map<Object, List<Object>>) session.getNested(column);
 
-                    if (num == Math.floor(num)) {
-                        // 소수점 제거된 정수 문자열
-                        return String.valueOf((long) num);
-                    } else {
-                        return value;
-                    }
-                } else {
-                    return value;
-                }
-            } else if (type == int.class || type == Integer.class) {
-                return Integer.parseInt(value);
-            } else if (type == double.class || type == Double.class) {
-                return Double.parseDouble(value);
-            } else if (type == boolean.class || type == Boolean.class) {
-                return Boolean.parseBoolean(value);
-            } else if (type == long.class || type == Long.class) {
-                return Long.parseLong(value);
-            } else if (type == LocalDateTime.class) {
-                if (cell.getCellType() == CellType.NUMERIC && DateUtil.isCellDateFormatted(cell)) {
-                    return cell.getLocalDateTimeCellValue(); // POI에서 제공
-                } else {
-                    return LocalDateTime.parse(value, DateTimeFormatter.ofPattern(fieldInfo.pattern())); // ISO-8601 문자열 기준
-                }
-            } else if (type == LocalDate.class) {
-                if (cell.getCellType() == CellType.NUMERIC && DateUtil.isCellDateFormatted(cell)) {
-                    return cell.getLocalDateTimeCellValue().toLocalDate();
-                } else {
-                    return LocalDate.parse(value);
-                }
-            } else {
-                throw new RuntimeException();
-            }
-        } catch (Throwable e) {
-            return typeDefault(type);
+            column.getAccessor().set(response, new ArrayList<>(index.getOrDefault(column.joinKeyOf(response), List.of())));
         }
     }
 
@@ -237,15 +747,7 @@ public class ExcelReadConverter {
      * 기본값 추가
      */
     public Object typeDefault(Class<?> type) {
-        if (type == boolean.class) return false;
-        if (type == char.class) return '\u0000';
-        if (type == byte.class) return (byte) 0;
-        if (type == short.class) return (short) 0;
-        if (type == int.class) return 0;
-        if (type == long.class) return 0L;
-        if (type == float.class) return 0f;
-        if (type == double.class) return 0d;
-        return null;
+        return ReadConverters.defaultValue(type);
     }
 
 }
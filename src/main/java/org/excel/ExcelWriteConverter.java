@@ -1,232 +1,400 @@
 package org.excel;
 
 import org.apache.poi.ss.usermodel.*;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
 import org.apache.poi.xssf.usermodel.XSSFWorkbook;
-import org.excel.annotation.ExcelColumnFont;
-import org.excel.annotation.ExcelColumnWrite;
 import org.excel.annotation.ExcelSheetInfo;
-
+import org.excel.enums.ExcelPhase;
+import org.excel.meta.ExcelClassMeta;
+import org.excel.meta.ExcelMetaRegistry;
+import org.excel.metrics.CountingOutputStream;
+import org.excel.metrics.ExcelMetrics;
+import org.excel.option.ExcelWriteOption;
+import org.excel.write.CsvSheetWriter;
+import org.excel.write.ExcelRows;
+import org.excel.write.StylePool;
+import org.excel.write.WritePlan;
+
+import java.io.BufferedOutputStream;
 import java.io.ByteArrayOutputStream;
-import java.io.FileInputStream;
 import java.io.IOException;
-import java.lang.reflect.Field;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
-import java.nio.file.StandardCopyOption;
-import java.time.LocalDate;
-import java.time.LocalDateTime;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 
 public class ExcelWriteConverter {
 
+    private final ExcelWriteOption option;
+
+    public ExcelWriteConverter() {
+        this(ExcelWriteOption.defaults());
+    }
+
+    public ExcelWriteConverter(ExcelWriteOption option) {
+        this.option = option;
+    }
+
     public ByteArrayOutputStream writeExcel(String samplePath, Object... writeDtos) throws IOException, IllegalAccessException {
-        //샘플 파일은 copy해야함
-        String copyPath = null;
+        ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream();
+        writeExcel(byteArrayOutputStream, samplePath, writeDtos);
 
-        //샘플 파일 복사본 생성
-        if (samplePath != null && !samplePath.isEmpty()) {
-            String[] split = samplePath.split("\\.");
+        return byteArrayOutputStream;
+    }
+
+    /**
+     * 파일로 바로 작성 (메모리에 전체 파일을 버퍼링하지 않음)
+     */
+    public void writeExcel(Path target, String samplePath, Object... writeDtos) throws IOException, IllegalAccessException {
+        try (OutputStream outputStream = new BufferedOutputStream(Files.newOutputStream(target))) {
+            writeExcel(outputStream, samplePath, writeDtos);
+        }
+    }
+
+    /**
+     * 채널로 바로 작성, 채널은 호출한 쪽에서 close
+     */
+    public void writeExcel(WritableByteChannel channel, String samplePath, Object... writeDtos) throws IOException, IllegalAccessException {
+        OutputStream outputStream = new BufferedOutputStream(Channels.newOutputStream(channel));
+        writeExcel(outputStream, samplePath, writeDtos);
+
+        //채널까지 close 되지 않도록 flush만 수행
+        outputStream.flush();
+    }
 
-            copyPath = split[0] + "copy." + split[1];
+    /**
+     * OutputStream으로 바로 작성, stream은 호출한 쪽에서 close
+     * 스트리밍 옵션과 함께 사용하면 전체 파일이 메모리에 올라오지 않음
+     * writeDtos는 Collection 또는 ExcelRows (stream / iterator / 페이지 조회)
+     */
+    public void writeExcel(OutputStream outputStream, String samplePath, Object... writeDtos) throws IOException, IllegalAccessException {
+        ExcelMetrics metrics = option.getMetrics();
 
-            Path copiedPath = Paths.get(copyPath);
-            Files.copy(Paths.get(samplePath), copiedPath, StandardCopyOption.REPLACE_EXISTING);
+        //metrics 사용시 작성한 byte 수 측정
+        CountingOutputStream countingOutputStream = metrics.isEnabled() ? new CountingOutputStream(outputStream) : null;
+
+        if (countingOutputStream != null) {
+            outputStream = countingOutputStream;
         }
 
-        try (Workbook workbook = copyPath != null
-                ? WorkbookFactory.create(new FileInputStream(copyPath))
-                : new XSSFWorkbook()) {
+        if (option.getCsv() != null) {
+            writeCsv(outputStream, samplePath, writeDtos);
 
-            for (Object writeDto : writeDtos) {
-                //해당 object collection 여부 판단
-                if (writeDto instanceof Collection<?>) {
-                    //collection object converting
-                    collectionWrite(writeDto, workbook);
+            if (countingOutputStream != null) metrics.bytesWritten(countingOutputStream.getCount());
+            return;
+        }
+
+        long start = System.nanoTime();
+
+        Workbook workbook = createWorkbook(samplePath);
+
+        if (metrics.isEnabled()) metrics.phase(null, ExcelPhase.OPEN, System.nanoTime() - start);
+
+        //시트 전체에서 공유하는 스타일
+        StylePool stylePool = new StylePool(workbook);
+
+        try {
+            //시트 병렬 작성은 SXSSF만 가능 (xls 템플릿, 스트리밍 옵션 없는 템플릿은 순차 처리)
+            if (option.getSheetExecutor() != null && workbook instanceof SXSSFWorkbook) {
+                writeSheetsParallel(workbook, stylePool, writeDtos);
+            } else {
+                for (Object writeDto : writeDtos) {
+                    //해당 object collection 여부 판단
+                    if (writeDto instanceof Collection<?>) {
+                        //collection object converting
+                        collectionWrite((Collection<?>) writeDto, workbook, stylePool);
+                    } else if (writeDto instanceof ExcelRows<?> rows) {
+                        //클래스가 지정된 stream / iterator / 페이지 데이터
+                        sheetWrite(rows.getType(), rows.iterator(), workbook, stylePool);
+                    }
                 }
             }
 
             //converting 파일 쓰기
-            ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream();
-            workbook.write(byteArrayOutputStream);
+            long saveStart = System.nanoTime();
+
+            workbook.write(outputStream);
+
+            if (metrics.isEnabled()) {
+                metrics.phase(null, ExcelPhase.SAVE, System.nanoTime() - saveStart);
+                metrics.styles(stylePool.getStyleCount(), stylePool.getFontCount());
+                metrics.bytesWritten(countingOutputStream.getCount());
+            }
+        } finally {
+            //SXSSF는 close시 임시 파일까지 dispose됨
             workbook.close();
 
-            //복사본 삭제
-            if (copyPath != null) {
-                Files.deleteIfExists(Paths.get(copyPath));
+            //stream 데이터 정리 (실패한 경우 포함)
+            for (Object writeDto : writeDtos) {
+                if (writeDto instanceof ExcelRows<?> rows) rows.close();
+            }
+        }
+    }
+
+    /**
+     * CSV / TSV 작성, 여러 데이터는 하나의 파일에 순서대로 작성
+     */
+    private void writeCsv(OutputStream outputStream, String samplePath, Object... writeDtos) throws IOException {
+        if (samplePath != null && !samplePath.isEmpty()) {
+            throw new IllegalArgumentException("CSV output does not support template : " + samplePath);
+        }
+
+        CsvSheetWriter csvWriter = new CsvSheetWriter(outputStream, option.getCsv());
+
+        try {
+            for (Object writeDto : writeDtos) {
+                if (writeDto instanceof Collection<?> collection) {
+                    if (!collection.isEmpty()) {
+                        csvWrite(csvWriter, collection.iterator().next().getClass(), collection.iterator());
+                    }
+                } else if (writeDto instanceof ExcelRows<?> rows) {
+                    csvWrite(csvWriter, rows.getType(), rows.iterator());
+                }
             }
 
-            return byteArrayOutputStream;
+            csvWriter.flush();
+        } finally {
+            for (Object writeDto : writeDtos) {
+                if (writeDto instanceof ExcelRows<?> rows) rows.close();
+            }
         }
     }
 
-    private void collectionWrite(Object writeDto, Workbook workbook) throws IllegalAccessException {
-        //collection 캐스팅 후 list 변환
-        List<?> collectionObject = new ArrayList<>((Collection<?>) writeDto);
+    private void csvWrite(CsvSheetWriter csvWriter, Class<?> type, Iterator<?> rows) throws IOException {
+        long start = System.nanoTime();
+        long rowCount = csvWriter.getRowCount();
+        long cellCount = csvWriter.getCellCount();
 
-        if (collectionObject.isEmpty()) return;
+        csvWriter.write(type, rows);
 
-        //첫 번째 object 조회
-        Object firstDto = collectionObject.get(0);
+        reportSheet(type, System.nanoTime() - start, csvWriter.getRowCount() - rowCount, csvWriter.getCellCount() - cellCount);
+    }
 
-        Class<?> headerClass = firstDto.getClass();
+    /**
+     * 시트 작성 측정값 통지
+     */
+    private void reportSheet(Class<?> type, long nanos, long rows, long cells) {
+        ExcelMetrics metrics = option.getMetrics();
 
-        if (headerClass.isAnnotationPresent(ExcelSheetInfo.class)) {
-            //엑셀 정보 추출
-            ExcelSheetInfo sheetInfo = headerClass.getAnnotation(ExcelSheetInfo.class);
+        if (!metrics.isEnabled()) return;
 
-            Sheet sheet = sheetInfo.sheetNum() < workbook.getNumberOfSheets()
-                    ? workbook.getSheetAt(sheetInfo.sheetNum())
-                    : workbook.createSheet();
+        String sheet = ExcelMetaRegistry.get(type).getSheetKey();
 
-            int rowOffset = sheetInfo.rowOffset();
+        metrics.phase(sheet, ExcelPhase.WRITE, nanos);
+        metrics.sheet(sheet, rows, cells, nanos);
+    }
 
-            //헤더 작성 및 스타일 적용
-            if (sheetInfo.isHeader()) {
-                Row headerRow = sheet.getRow(rowOffset);
-                if (headerRow == null) headerRow = sheet.createRow(rowOffset);
+    /**
+     * 옵션에 맞는 workbook 생성
+     * 템플릿은 캐시된 bytes로 메모리에서 생성하므로 원본 파일은 변경되지 않음
+     * 스트리밍 모드는 SXSSF로 감싸며, 템플릿 사용시 템플릿의 마지막 row 이후부터만 작성 가능
+     * 시트 병렬 작성도 SXSSF가 필요하지만, 템플릿은 스트리밍 옵션이 없으면 XSSF로 순차 작성
+     */
+    private Workbook createWorkbook(String samplePath) throws IOException {
+        Workbook workbook;
+        boolean template = samplePath != null && !samplePath.isEmpty();
+
+        if (template) {
+            workbook = option.getTemplateCache().open(Paths.get(samplePath));
+        } else {
+            workbook = new XSSFWorkbook();
+        }
 
-                for (Field field : firstDto.getClass().getDeclaredFields()) {
-                    if (field.isAnnotationPresent(ExcelColumnWrite.class)) {
-                        ExcelColumnWrite meta = field.getAnnotation(ExcelColumnWrite.class);
-                        createHeaderCell(workbook, headerRow, meta);
-                    }
-                }
-            }
+        //xls 템플릿은 스트리밍 불가
+        //SXSSF는 템플릿 row를 조회할 수 없으므로 병렬 작성만으로는 템플릿을 감싸지 않음
+        boolean streaming = option.isStreaming() || (option.getSheetExecutor() != null && !template);
 
-            //데이터 작성 시작 행
-            int dataStartRow = sheetInfo.isHeader() ? rowOffset + 1 : rowOffset;
+        if (streaming && workbook instanceof XSSFWorkbook xssfWorkbook) {
+            return new SXSSFWorkbook(xssfWorkbook, option.getRowAccessWindowSize(), option.isCompressTempFiles());
+        }
 
-            //캐싱 스타일 (컬럼별)
-            Map<Integer, CellStyle> dataStyleCache = new HashMap<>();
+        return workbook;
+    }
 
-            for (int i = 0; i < collectionObject.size(); i++) {
-                Object dto = collectionObject.get(i);
+    private void collectionWrite(Collection<?> writeDto, Workbook workbook, StylePool stylePool) {
+        if (writeDto.isEmpty()) return;
 
-                Row row = sheet.getRow(dataStartRow + i);
-                if (row == null) row = sheet.createRow(dataStartRow + i);
+        //첫 번째 object의 클래스로 시트 정보 조회 (collection 복사 없이 그대로 순회)
+        Class<?> type = writeDto.iterator().next().getClass();
 
-                for (Field field : dto.getClass().getDeclaredFields()) {
-                    if (field.isAnnotationPresent(ExcelColumnWrite.class)) {
-                        //컬럼 정보 추출
-                        ExcelColumnWrite meta = field.getAnnotation(ExcelColumnWrite.class);
+        sheetWrite(type, writeDto.iterator(), workbook, stylePool);
+    }
 
-                        field.setAccessible(true);
+    /**
+     * 시트별 row 작성을 sheetExecutor에서 동시에 처리 (SXSSF 시트별 임시 파일에 병렬로 작성)
+     * 시트 생성, 헤더 작성, 작성 계획(스타일 포함) 생성은 현재 thread에서 미리 처리하고, 같은 시트의 데이터는 순서대로 작성
+     * ExcelRows에 하위 클래스가 섞인 경우 해당 클래스의 계획만 작업 thread에서 생성 (StylePool은 동기화됨)
+     * 파일 저장(zip 압축)은 모든 시트가 끝난 뒤 한 번에 진행
+     */
+    private void writeSheetsParallel(Workbook workbook, StylePool stylePool, Object... writeDtos) {
+        Map<Sheet, List<Runnable>> sheetJobs = new LinkedHashMap<>();
+
+        for (Object writeDto : writeDtos) {
+            Class<?> type;
+            Iterator<?> rows;
+
+            if (writeDto instanceof Collection<?> collection) {
+                if (collection.isEmpty()) continue;
+
+                type = collection.iterator().next().getClass();
+                rows = collection.iterator();
+            } else if (writeDto instanceof ExcelRows<?> excelRows) {
+                type = excelRows.getType();
+                rows = excelRows.iterator();
+            } else {
+                continue;
+            }
 
-                        //필드 조회
-                        Object value = field.get(dto);
+            ExcelClassMeta headerMeta = ExcelMetaRegistry.get(type);
 
-                        // 스타일 캐싱 및 셀 생성 + 값 입력
-                        CellStyle style = dataStyleCache.computeIfAbsent(meta.column(), idx ->
-                                createDataCellStyle(workbook, meta)
-                        );
+            if (headerMeta.getSheetInfo() == null) continue;
 
-                        createDataCell(row, meta, value, style);
-                    }
+            SheetTarget target = sheetTarget(headerMeta.getSheetInfo(), workbook);
+            Map<Class<?>, WritePlan> plans = new HashMap<>();
+            WritePlan plan = new WritePlan(headerMeta, stylePool);
+            plans.put(type, plan);
+
+            //collection은 섞인 하위 클래스의 계획도 미리 생성
+            if (writeDto instanceof Collection<?> collection) {
+                for (Object dto : collection) {
+                    plans.computeIfAbsent(dto.getClass(), aClass -> new WritePlan(ExcelMetaRegistry.get(aClass), stylePool));
                 }
             }
+
+            writeHeader(target, plan);
+
+            sheetJobs.computeIfAbsent(target.sheet(), sheet -> new ArrayList<>())
+                    .add(() -> writeRows(target, plan, plans, rows, stylePool, System.nanoTime()));
         }
-    }
 
-    private void createHeaderCell(Workbook workbook, Row headerRow, ExcelColumnWrite meta) {
-        ExcelColumnFont fontStyle = meta.font();
+        List<CompletableFuture<Void>> futures = new ArrayList<>();
 
-        int colIdx = meta.column();
-        Cell cell = headerRow.getCell(colIdx);
-        if (cell == null) cell = headerRow.createCell(colIdx);
+        for (List<Runnable> jobs : sheetJobs.values()) {
+            futures.add(CompletableFuture.runAsync(() -> jobs.forEach(Runnable::run), option.getSheetExecutor()));
+        }
 
-        cell.setCellValue(meta.value());
+        Throwable failure = null;
 
-        CellStyle style = workbook.createCellStyle();
+        //실패가 있어도 workbook을 닫기 전에 모든 시트 작업 대기
+        for (CompletableFuture<Void> future : futures) {
+            try {
+                future.join();
+            } catch (CompletionException e) {
+                if (failure == null) failure = e.getCause() != null ? e.getCause() : e;
+            }
+        }
 
-        //배경색
-        style.setFillForegroundColor(meta.headerColor().getIndex());
-        style.setFillPattern(FillPatternType.SOLID_FOREGROUND);
+        if (failure instanceof RuntimeException runtimeException) throw runtimeException;
+        if (failure instanceof Error error) throw error;
+        if (failure != null) throw new IllegalStateException(failure);
+    }
 
-        //태두리
-        style.setBorderTop(meta.topBorder());
-        style.setBorderBottom(meta.bottomBorder());
-        style.setBorderLeft(meta.leftBorder());
-        style.setBorderRight(meta.rightBorder());
+    private void sheetWrite(Class<?> type, Iterator<?> rows, Workbook workbook, StylePool stylePool) {
+        //클래스 매핑 정보 조회 (클래스당 한 번만 생성)
+        ExcelClassMeta headerMeta = ExcelMetaRegistry.get(type);
 
-        short black = IndexedColors.BLACK.getIndex();
+        if (headerMeta.getSheetInfo() == null) return;
 
-        style.setTopBorderColor(black);
-        style.setBottomBorderColor(black);
-        style.setLeftBorderColor(black);
-        style.setRightBorderColor(black);
+        long start = System.nanoTime();
 
-        //정렬
-        style.setAlignment(meta.align());
+        //컬럼별 변환기, 스타일 미리 계산
+        SheetTarget target = sheetTarget(headerMeta.getSheetInfo(), workbook);
+        WritePlan plan = new WritePlan(headerMeta, stylePool);
 
-        //폰트
-        Font font = workbook.createFont();
-        font.setBold(true);
-        font.setFontName(fontStyle.fontName());
-        font.setFontHeightInPoints(fontStyle.fontSize());
-        font.setColor(fontStyle.fontColor().getIndex());
-        style.setFont(font);
+        Map<Class<?>, WritePlan> plans = new HashMap<>();
+        plans.put(plan.getType(), plan);
 
-        cell.setCellStyle(style);
+        writeHeader(target, plan);
+        writeRows(target, plan, plans, rows, stylePool, start);
     }
 
-    private CellStyle createDataCellStyle(Workbook workbook, ExcelColumnWrite meta) {
-        ExcelColumnFont fontStyle = meta.font();
-
-        CellStyle style = workbook.createCellStyle();
+    /**
+     * 작성할 시트와 새로 만든 시트인지 여부
+     */
+    private record SheetTarget(Sheet sheet, ExcelSheetInfo sheetInfo, boolean newSheet) {
+    }
 
-        // 정렬
-        style.setAlignment(meta.align());
+    /**
+     * 시트 조회, 없는 시트는 생성 (findByName이면 해당 이름으로 생성)
+     */
+    private static SheetTarget sheetTarget(ExcelSheetInfo sheetInfo, Workbook workbook) {
+        Sheet sheet = sheetInfo.findByName()
+                ? workbook.getSheet(sheetInfo.value())
+                : sheetInfo.sheetNum() < workbook.getNumberOfSheets() ? workbook.getSheetAt(sheetInfo.sheetNum()) : null;
+
+        if (sheet != null) {
+            //SXSSF로 감싼 템플릿의 기존 row는 조회, 수정할 수 없으므로 템플릿 마지막 row 이후부터만 작성
+            if (workbook instanceof SXSSFWorkbook sxssfWorkbook) {
+                int templateLastRow = sxssfWorkbook.getXSSFWorkbook().getSheetAt(workbook.getSheetIndex(sheet)).getLastRowNum();
+
+                if (sheetInfo.rowOffset() <= templateLastRow) {
+                    throw new IllegalArgumentException("Streaming write must start after the template rows : sheet "
+                            + sheet.getSheetName() + ", rowOffset " + sheetInfo.rowOffset() + ", template last row " + templateLastRow);
+                }
+            }
 
-        // 날짜 포맷 있으면 설정
-        if (!meta.dateFormat().isEmpty()) {
-            CreationHelper helper = workbook.getCreationHelper();
-            style.setDataFormat(helper.createDataFormat().getFormat(meta.dateFormat()));
+            return new SheetTarget(sheet, sheetInfo, false);
         }
 
-        //태두리
-        style.setBorderTop(meta.topBorder());
-        style.setBorderBottom(meta.bottomBorder());
-        style.setBorderLeft(meta.leftBorder());
-        style.setBorderRight(meta.rightBorder());
+        return new SheetTarget(sheetInfo.findByName() ? workbook.createSheet(sheetInfo.value()) : workbook.createSheet(), sheetInfo, true);
+    }
 
-        short black = IndexedColors.BLACK.getIndex();
+    /**
+     * 헤더 작성 및 스타일 적용
+     */
+    private static void writeHeader(SheetTarget target, WritePlan plan) {
+        ExcelSheetInfo sheetInfo = target.sheetInfo();
 
-        style.setTopBorderColor(black);
-        style.setBottomBorderColor(black);
-        style.setLeftBorderColor(black);
-        style.setRightBorderColor(black);
+        if (!sheetInfo.isHeader()) return;
 
-        // 폰트
-        Font font = workbook.createFont();
-        font.setBold(fontStyle.bold());
-        font.setFontName(fontStyle.fontName());
-        font.setFontHeightInPoints(fontStyle.fontSize());
-        font.setColor(fontStyle.fontColor().getIndex());
-        font.setItalic(fontStyle.italic());
-        if (fontStyle.underline()) font.setUnderline(Font.U_SINGLE);
-        style.setFont(font);
+        Row headerRow = target.sheet().getRow(sheetInfo.rowOffset());
+        if (headerRow == null) headerRow = target.sheet().createRow(sheetInfo.rowOffset());
 
-        return style;
+        plan.writeHeader(headerRow);
     }
 
-    private void createDataCell(Row row, ExcelColumnWrite meta, Object value, CellStyle style) {
-        int colIdx = meta.column();
+    /**
+     * 데이터 row 작성, 하위 클래스가 섞인 경우 plans에 클래스별 계획 추가
+     */
+    private void writeRows(SheetTarget target, WritePlan plan, Map<Class<?>, WritePlan> plans, Iterator<?> rows,
+                           StylePool stylePool, long start) {
+        Sheet sheet = target.sheet();
+        ExcelSheetInfo sheetInfo = target.sheetInfo();
 
-        Cell cell = row.getCell(colIdx);
+        //데이터 작성 시작 행
+        int rowNum = sheetInfo.isHeader() ? sheetInfo.rowOffset() + 1 : sheetInfo.rowOffset();
 
-        if (cell == null) cell = row.createCell(colIdx);
+        //새 시트이거나 기존 row 이후부터 작성하면 row 조회 없이 바로 생성
+        boolean fresh = target.newSheet() || rowNum > sheet.getLastRowNum();
 
-        if (value instanceof Number) {
-            cell.setCellValue(((Number) value).doubleValue());
-        } else if (value instanceof LocalDate) {
-            cell.setCellValue((LocalDate) value);
-        } else if (value instanceof LocalDateTime) {
-            cell.setCellValue((LocalDateTime) value);
-        } else {
-            cell.setCellValue(value != null ? value.toString() : "");
+        int firstRow = rowNum;
+        long cells = 0;
+
+        while (rows.hasNext()) {
+            Object dto = rows.next();
+
+            WritePlan rowPlan = dto.getClass() == plan.getType()
+                    ? plan
+                    : plans.computeIfAbsent(dto.getClass(), aClass -> new WritePlan(ExcelMetaRegistry.get(aClass), stylePool));
+
+            if (fresh) {
+                rowPlan.writeNewRow(sheet.createRow(rowNum), dto);
+            } else {
+                Row row = sheet.getRow(rowNum);
+                if (row == null) row = sheet.createRow(rowNum);
+
+                rowPlan.writeRow(row, dto);
+            }
+
+            cells += rowPlan.getColumnCount();
+            rowNum++;
         }
 
-        cell.setCellStyle(style);
+        reportSheet(plan.getType(), System.nanoTime() - start, rowNum - firstRow, cells);
     }
 }
@@ -12,8 +12,11 @@ public @interface ExcelColumnRead {
     //첫 번째 row 0
     int row() default 0;
 
-    //첫 번째 column 0
-    int column();
+    //첫 번째 column 0 (header 지정시 사용하지 않음)
+    int column() default -1;
+
+    //LIST 시트에서 헤더 row(rowOffset 바로 위 row)의 문자열로 컬럼 조회
+    String header() default "";
 
     String pattern() default "";
 
@@ -21,4 +24,21 @@ public @interface ExcelColumnRead {
 
     Class<?> fieldClass() default String.class;
 
+    //다른 시트 참조 collection의 join 기준 필드 이름 (지정시 값이 같은 원소만 설정)
+    String joinKey() default "";
+
+    //fieldClass의 join 대상 필드 이름 (없으면 joinKey와 같은 이름)
+    String joinField() default "";
+
+    //검증 옵션(validate) 사용시 빈 셀이면 오류
+    boolean required() default false;
+
+    //검증 옵션 사용시 숫자 값 허용 범위 (min, max 포함)
+    double min() default Double.NEGATIVE_INFINITY;
+
+    double max() default Double.POSITIVE_INFINITY;
+
+    //검증 옵션 사용시 셀 문자열 전체가 일치해야 하는 정규식
+    String regex() default "";
+
 }
@@ -18,6 +18,9 @@ public @interface ExcelSheetInfo {
     //첫 번째 시트 0
     int sheetNum() default 0;
 
+    //sheetNum 대신 value 이름으로 시트 조회 (쓰기는 없으면 해당 이름으로 생성)
+    boolean findByName() default false;
+
     //읽기에는 읽기 시작 rowNum, 쓰기에는 headerNumber
     int rowOffset() default 0;
 
@@ -0,0 +1,160 @@
+package org.excel.convert;
+
+import org.excel.enums.ErrorType;
+import org.excel.metrics.ExcelMetrics;
+import org.excel.validation.ReadError;
+import org.excel.validation.ReadErrors;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 셀 변환 결과를 담는 재사용 holder
+ * 원시 값은 boxing 없이 long/double/boolean 슬롯에 저장
+ */
+public final class ConvertResult {
+
+    //변환 성공
+    public static final int SUCCESS = 0;
+
+    //셀이 없거나 비어있음
+    public static final int BLANK = 1;
+
+    //형식이 맞지 않음
+    public static final int INVALID = 2;
+
+    private Object value;
+
+    private long longValue;
+
+    private double doubleValue;
+
+    private boolean booleanValue;
+
+    //변환한 셀 수
+    private long cells;
+
+    //변환 실패 통지 대상 (metrics 미사용시 null)
+    private ExcelMetrics metrics;
+
+    //검증 오류 수집 (검증 미사용시 null)
+    private ReadErrors errors;
+
+    //현재 row의 검증 오류 (비어있지 않은 row만 errors에 추가)
+    private List<ReadError> rowErrors;
+
+    private String sheet;
+
+    //현재 변환 중인 row 번호
+    private int rowNum;
+
+    public int value(Object value) {
+        this.value = value;
+        return SUCCESS;
+    }
+
+    public int longValue(long value) {
+        this.longValue = value;
+        return SUCCESS;
+    }
+
+    public int doubleValue(double value) {
+        this.doubleValue = value;
+        return SUCCESS;
+    }
+
+    public int booleanValue(boolean value) {
+        this.booleanValue = value;
+        return SUCCESS;
+    }
+
+    /**
+     * 변환 실패를 metrics에 통지, 검증 오류를 errors에 수집 (시트당 한 번 설정, 미사용은 null)
+     */
+    public void track(ExcelMetrics metrics, ReadErrors errors, String sheet) {
+        this.metrics = metrics;
+        this.errors = errors;
+        this.sheet = sheet;
+    }
+
+    public void setRowNum(int rowNum) {
+        this.rowNum = rowNum;
+    }
+
+    /**
+     * 변환 결과 집계, 형식이 맞지 않으면 실패로 통지
+     */
+    public int count(int status, String field, int column) {
+        cells++;
+
+        if (status == INVALID && metrics != null) {
+            metrics.convertFailure(sheet, field, rowNum, column);
+        }
+
+        return status;
+    }
+
+    public long getCells() {
+        return cells;
+    }
+
+    public boolean isValidating() {
+        return errors != null;
+    }
+
+    /**
+     * 현재 row의 검증 오류 추가
+     */
+    public void reject(ErrorType type, String field, int column, String value) {
+        if (rowErrors == null) rowErrors = new ArrayList<>();
+
+        rowErrors.add(new ReadError(sheet, rowNum, column, field, type, value));
+    }
+
+    /**
+     * row 변환 종료, 빈 row가 아니면 검증 오류 반영 (maxErrors 도달시 예외)
+     */
+    public void endRow(boolean isNotEmpty) {
+        if (rowErrors == null || rowErrors.isEmpty()) return;
+
+        try {
+            if (isNotEmpty) errors.addAll(rowErrors);
+        } finally {
+            rowErrors.clear();
+        }
+    }
+
+    /**
+     * 슬롯에 저장된 값을 필드 타입의 객체로 변환
+     */
+    public Object toObject(ValueKind kind, Class<?> type) {
+        return switch (kind) {
+            case OBJECT -> value;
+            case LONG -> {
+                if (type == int.class || type == Integer.class) yield (Object) (int) longValue;
+                if (type == short.class || type == Short.class) yield (Object) (short) longValue;
+                if (type == byte.class || type == Byte.class) yield (Object) (byte) longValue;
+                yield (Object) longValue;
+            }
+            case DOUBLE -> type == float.class || type == Float.class ? (Object) (float) doubleValue : (Object) doubleValue;
+            case BOOLEAN -> booleanValue;
+        };
+    }
+
+    public Object getValue() {
+        return value;
+    }
+
+    public long getLong() {
+        return longValue;
+    }
+
+    public double getDouble() {
+        return doubleValue;
+    }
+
+    public boolean getBoolean() {
+        return booleanValue;
+    }
+
+}
@@ -0,0 +1,21 @@
+package org.excel.convert;
+
+import org.excel.annotation.ExcelColumnRead;
+import org.excel.annotation.ExcelColumnWrite;
+
+/**
+ * 사용자 정의 변환기 SPI
+ * META-INF/services/org.excel.convert.ConverterProvider 로 등록하거나 ConverterRegistry.register로 추가
+ * 지원하지 않는 타입은 null 반환 (기본 변환기 사용)
+ */
+public interface ConverterProvider {
+
+    default ReadConverter readConverter(Class<?> type, ExcelColumnRead info) {
+        return null;
+    }
+
+    default WriteConverter writeConverter(Class<?> type, ExcelColumnWrite info) {
+        return null;
+    }
+
+}
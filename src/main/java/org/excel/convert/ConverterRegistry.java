@@ -0,0 +1,55 @@
+package org.excel.convert;
+
+import org.excel.annotation.ExcelColumnRead;
+import org.excel.annotation.ExcelColumnWrite;
+
+import java.util.List;
+import java.util.ServiceLoader;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * 필드별 변환기 결정
+ * 등록된 provider(ServiceLoader + register)를 먼저 조회하고, 없으면 기본 변환기 사용
+ * 변환기는 클래스 매핑 정보 생성시 한 번만 결정되므로 provider는 첫 읽기/쓰기 전에 등록해야 함
+ */
+public final class ConverterRegistry {
+
+    private static final List<ConverterProvider> PROVIDERS = new CopyOnWriteArrayList<>();
+
+    static {
+        for (ConverterProvider provider : ServiceLoader.load(ConverterProvider.class)) {
+            PROVIDERS.add(provider);
+        }
+    }
+
+    private ConverterRegistry() {
+    }
+
+    /**
+     * provider 추가, 나중에 등록한 provider가 우선
+     */
+    public static void register(ConverterProvider provider) {
+        PROVIDERS.add(0, provider);
+    }
+
+    public static ReadConverter resolveRead(Class<?> type, ExcelColumnRead info) {
+        for (ConverterProvider provider : PROVIDERS) {
+            ReadConverter converter = provider.readConverter(type, info);
+
+            if (converter != null) return converter;
+        }
+
+        return ReadConverters.resolve(type, info);
+    }
+
+    public static WriteConverter resolveWrite(Class<?> type, ExcelColumnWrite info) {
+        for (ConverterProvider provider : PROVIDERS) {
+            WriteConverter converter = provider.writeConverter(type, info);
+
+            if (converter != null) return converter;
+        }
+
+        return WriteConverters.resolve(type);
+    }
+
+}
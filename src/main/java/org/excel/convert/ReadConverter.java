@@ -0,0 +1,21 @@
+package org.excel.convert;
+
+import org.excel.read.ReadRow;
+
+/**
+ * 셀 값 → 필드 타입 변환기
+ * 필드별로 한 번 결정되며, 실패는 예외 대신 ConvertResult 결과 코드로 반환
+ */
+public interface ReadConverter {
+
+    /**
+     * row의 column 셀을 변환해 result에 저장하고 결과 코드 반환
+     */
+    int convert(ReadRow row, int column, ConvertResult result);
+
+    //결과가 저장되는 슬롯
+    default ValueKind kind() {
+        return ValueKind.OBJECT;
+    }
+
+}
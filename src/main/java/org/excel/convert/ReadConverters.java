@@ -0,0 +1,276 @@
+package org.excel.convert;
+
+import org.excel.annotation.ExcelColumnRead;
+import org.excel.read.ReadRow;
+
+import java.math.BigDecimal;
+import java.time.DateTimeException;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.TemporalQuery;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * 기본 제공 읽기 변환기
+ * 셀 타입(CellType)으로 분기해 숫자 셀은 문자열을 만들지 않고 바로 읽음
+ */
+public final class ReadConverters {
+
+    //지원하지 않는 타입은 항상 기본값
+    private static final ReadConverter UNSUPPORTED = (row, column, result) -> ConvertResult.INVALID;
+
+    private static final ReadConverter DOUBLE = new ReadConverter() {
+        @Override
+        public int convert(ReadRow row, int column, ConvertResult result) {
+            return switch (row.getCellType(column)) {
+                case _NONE, BLANK -> ConvertResult.BLANK;
+                case NUMERIC -> result.doubleValue(row.getNumericValue(column));
+                case STRING -> TextParser.parseDouble(row.getStringValue(column), result);
+                default -> ConvertResult.INVALID;
+            };
+        }
+
+        @Override
+        public ValueKind kind() {
+            return ValueKind.DOUBLE;
+        }
+    };
+
+    /**
+     * Boolean.parseBoolean과 같이 "true"(대소문자 무시)만 true
+     */
+    private static final ReadConverter BOOLEAN = new ReadConverter() {
+        @Override
+        public int convert(ReadRow row, int column, ConvertResult result) {
+            return switch (row.getCellType(column)) {
+                case _NONE -> ConvertResult.BLANK;
+                case BOOLEAN -> result.booleanValue(row.getBooleanValue(column));
+                case STRING -> result.booleanValue("true".equalsIgnoreCase(row.getStringValue(column)));
+                default -> result.booleanValue(false);
+            };
+        }
+
+        @Override
+        public ValueKind kind() {
+            return ValueKind.BOOLEAN;
+        }
+    };
+
+    private ReadConverters() {
+    }
+
+    /**
+     * 필드 타입에 맞는 변환기 결정 (필드별로 한 번만 호출)
+     */
+    public static ReadConverter resolve(Class<?> type, ExcelColumnRead info) {
+        if (type == String.class) return ReadConverters::toText;
+        if (type == int.class || type == Integer.class) return longConverter(Integer.MIN_VALUE, Integer.MAX_VALUE);
+        if (type == double.class || type == Double.class) return DOUBLE;
+        if (type == boolean.class || type == Boolean.class) return BOOLEAN;
+        if (type == long.class || type == Long.class) return longConverter(Long.MIN_VALUE, Long.MAX_VALUE);
+        if (type == LocalDateTime.class) return localDateTime(formatter(info, DateTimeFormatter.ISO_LOCAL_DATE_TIME));
+        if (type == LocalDate.class) return localDate(formatter(info, DateTimeFormatter.ISO_LOCAL_DATE));
+        if (type == short.class || type == Short.class) return longConverter(Short.MIN_VALUE, Short.MAX_VALUE);
+        if (type == float.class || type == Float.class) return DOUBLE;
+        if (type == BigDecimal.class) return ReadConverters::toBigDecimal;
+        if (type == UUID.class) return ReadConverters::toUuid;
+        if (type == Instant.class) return instant(info != null && !info.pattern().isEmpty()
+                ? DateTimeFormatter.ofPattern(info.pattern()).withZone(ZoneOffset.UTC)
+                : DateTimeFormatter.ISO_INSTANT);
+        if (type.isEnum()) return enumConverter(type);
+
+        return UNSUPPORTED;
+    }
+
+    /**
+     * 변환 실패시 필드 기본값 (원시 타입은 0/false, 그 외 null)
+     */
+    public static Object defaultValue(Class<?> type) {
+        if (type == boolean.class) return false;
+        if (type == char.class) return '\u0000';
+        if (type == byte.class) return (byte) 0;
+        if (type == short.class) return (short) 0;
+        if (type == int.class) return 0;
+        if (type == long.class) return 0L;
+        if (type == float.class) return 0f;
+        if (type == double.class) return 0d;
+        return null;
+    }
+
+    private static int toText(ReadRow row, int column, ConvertResult result) {
+        return switch (row.getCellType(column)) {
+            case _NONE -> ConvertResult.BLANK;
+            case NUMERIC -> {
+                double num = row.getNumericValue(column);
+
+                // 소수점 제거된 정수 문자열, 소수는 지수 표기 없는 값 (읽기 엔진과 관계없이 같은 문자열)
+                yield num == Math.floor(num) && !Double.isInfinite(num)
+                        ? result.value(String.valueOf((long) num))
+                        : result.value(BigDecimal.valueOf(num).stripTrailingZeros().toPlainString());
+            }
+            case STRING -> result.value(row.getStringValue(column));
+            case BOOLEAN -> result.value(row.getBooleanValue(column) ? "TRUE" : "FALSE");
+            case BLANK -> result.value("");
+            //오류 셀은 오류 문자열 (#DIV/0! 등)
+            default -> result.value(row.getText(column));
+        };
+    }
+
+    /**
+     * 정수 변환기, 범위를 벗어나거나 소수가 있으면 INVALID
+     */
+    private static ReadConverter longConverter(long min, long max) {
+        return new ReadConverter() {
+            @Override
+            public int convert(ReadRow row, int column, ConvertResult result) {
+                return switch (row.getCellType(column)) {
+                    case _NONE, BLANK -> ConvertResult.BLANK;
+                    case NUMERIC -> {
+                        double num = row.getNumericValue(column);
+
+                        yield num != Math.rint(num) || num < min || num > max
+                                ? ConvertResult.INVALID
+                                : result.longValue((long) num);
+                    }
+                    case STRING -> {
+                        int code = TextParser.parseLong(row.getStringValue(column), result);
+
+                        yield code == ConvertResult.SUCCESS && (result.getLong() < min || result.getLong() > max)
+                                ? ConvertResult.INVALID
+                                : code;
+                    }
+                    default -> ConvertResult.INVALID;
+                };
+            }
+
+            @Override
+            public ValueKind kind() {
+                return ValueKind.LONG;
+            }
+        };
+    }
+
+    /**
+     * 숫자 셀은 Double.toString 기준 최단 표현으로 변환 (0.1 → 0.1)
+     */
+    private static int toBigDecimal(ReadRow row, int column, ConvertResult result) {
+        return switch (row.getCellType(column)) {
+            case _NONE, BLANK -> ConvertResult.BLANK;
+            case NUMERIC -> result.value(BigDecimal.valueOf(row.getNumericValue(column)));
+            case STRING -> {
+                String text = row.getStringValue(column).trim();
+
+                //형식 검사를 통과한 문자열만 BigDecimal 생성
+                int code = TextParser.parseDouble(text, result);
+
+                yield code == ConvertResult.SUCCESS ? result.value(new BigDecimal(text)) : code;
+            }
+            default -> ConvertResult.INVALID;
+        };
+    }
+
+    private static int toUuid(ReadRow row, int column, ConvertResult result) {
+        return switch (row.getCellType(column)) {
+            case _NONE, BLANK -> ConvertResult.BLANK;
+            case STRING -> {
+                String text = row.getStringValue(column).trim();
+
+                yield TextParser.isUuid(text) ? result.value(UUID.fromString(text)) : ConvertResult.INVALID;
+            }
+            default -> ConvertResult.INVALID;
+        };
+    }
+
+    /**
+     * 상수 이름(name, toString) map을 미리 만들어 valueOf 예외 없이 조회
+     */
+    private static ReadConverter enumConverter(Class<?> type) {
+        Map<String, Object> constants = new HashMap<>();
+
+        for (Object constant : type.getEnumConstants()) {
+            constants.put(((Enum<?>) constant).name(), constant);
+        }
+
+        //쓰기는 toString 값으로 기록하므로 toString도 허용 (name과 겹치면 name 우선)
+        for (Object constant : type.getEnumConstants()) {
+            String text = constant.toString();
+
+            if (text != null) constants.putIfAbsent(text.trim(), constant);
+        }
+
+        return (row, column, result) -> switch (row.getCellType(column)) {
+            case _NONE, BLANK -> ConvertResult.BLANK;
+            case STRING -> {
+                Object constant = constants.get(row.getStringValue(column).trim());
+
+                yield constant != null ? result.value(constant) : ConvertResult.INVALID;
+            }
+            default -> ConvertResult.INVALID;
+        };
+    }
+
+    /**
+     * 엑셀 날짜 숫자는 UTC 기준 Instant로 변환
+     */
+    private static ReadConverter instant(DateTimeFormatter formatter) {
+        return (row, column, result) -> switch (row.getCellType(column)) {
+            case _NONE, BLANK -> ConvertResult.BLANK;
+            case NUMERIC -> row.isDateFormatted(column)
+                    ? result.value(row.getDateValue(column).toInstant(ZoneOffset.UTC))
+                    : ConvertResult.INVALID;
+            case STRING -> parseDate(formatter, row.getStringValue(column), Instant::from, result);
+            default -> ConvertResult.INVALID;
+        };
+    }
+
+    private static ReadConverter localDateTime(DateTimeFormatter formatter) {
+        return (row, column, result) -> switch (row.getCellType(column)) {
+            case _NONE, BLANK -> ConvertResult.BLANK;
+            //날짜 서식 숫자 셀은 POI 변환 사용
+            case NUMERIC -> row.isDateFormatted(column)
+                    ? result.value(row.getDateValue(column))
+                    : ConvertResult.INVALID;
+            case STRING -> parseDate(formatter, row.getStringValue(column), LocalDateTime::from, result);
+            default -> ConvertResult.INVALID;
+        };
+    }
+
+    private static ReadConverter localDate(DateTimeFormatter formatter) {
+        return (row, column, result) -> switch (row.getCellType(column)) {
+            case _NONE, BLANK -> ConvertResult.BLANK;
+            case NUMERIC -> row.isDateFormatted(column)
+                    ? result.value(row.getDateValue(column).toLocalDate())
+                    : ConvertResult.INVALID;
+            case STRING -> parseDate(formatter, row.getStringValue(column), LocalDate::from, result);
+            default -> ConvertResult.INVALID;
+        };
+    }
+
+    /**
+     * 형식 검사를 먼저 하므로 잘못된 문자열은 예외 없이 INVALID
+     */
+    private static int parseDate(DateTimeFormatter formatter, String text, TemporalQuery<?> query, ConvertResult result) {
+        if (text.isEmpty()) return ConvertResult.BLANK;
+        if (!TextParser.matches(formatter, text)) return ConvertResult.INVALID;
+
+        try {
+            return result.value(formatter.parse(text, query));
+        } catch (DateTimeException e) {
+            //형식은 맞지만 존재하지 않는 날짜 (2월 30일 등)
+            return ConvertResult.INVALID;
+        }
+    }
+
+    /**
+     * pattern이 지정되어 있으면 해당 pattern, 아니면 ISO 포맷
+     */
+    private static DateTimeFormatter formatter(ExcelColumnRead info, DateTimeFormatter defaultFormatter) {
+        return info != null && !info.pattern().isEmpty() ? DateTimeFormatter.ofPattern(info.pattern()) : defaultFormatter;
+    }
+
+}
@@ -0,0 +1,143 @@
+package org.excel.convert;
+
+import java.text.ParsePosition;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * 예외를 만들지 않는 문자열 검사/파싱 유틸
+ */
+final class TextParser {
+
+    private TextParser() {
+    }
+
+    /**
+     * 부호 있는 10진 정수 파싱, 형식 오류나 overflow면 INVALID
+     */
+    static int parseLong(String text, ConvertResult result) {
+        int start = 0;
+        int end = text.length();
+
+        //앞뒤 공백 제외
+        while (start < end && text.charAt(start) <= ' ') start++;
+        while (end > start && text.charAt(end - 1) <= ' ') end--;
+
+        if (start == end) return ConvertResult.BLANK;
+
+        boolean negative = false;
+        char first = text.charAt(start);
+
+        if (first == '-' || first == '+') {
+            negative = first == '-';
+            start++;
+        }
+
+        if (start == end) return ConvertResult.INVALID;
+
+        //음수 기준으로 누적해야 Long.MIN_VALUE까지 표현 가능
+        long limit = negative ? Long.MIN_VALUE : -Long.MAX_VALUE;
+        long value = 0;
+
+        for (int i = start; i < end; i++) {
+            int digit = text.charAt(i) - '0';
+
+            if (digit < 0 || digit > 9) return ConvertResult.INVALID;
+            if (value < limit / 10) return ConvertResult.INVALID;
+
+            value *= 10;
+
+            if (value < limit + digit) return ConvertResult.INVALID;
+
+            value -= digit;
+        }
+
+        return result.longValue(negative ? value : -value);
+    }
+
+    /**
+     * 10진 실수 형식 검사 후 파싱 (지수 표기 허용)
+     */
+    static int parseDouble(String text, ConvertResult result) {
+        String trimmed = text.trim();
+
+        if (trimmed.isEmpty()) return ConvertResult.BLANK;
+
+        int i = 0;
+        int length = trimmed.length();
+
+        if (trimmed.charAt(i) == '-' || trimmed.charAt(i) == '+') i++;
+
+        int digits = 0;
+
+        while (i < length && isDigit(trimmed.charAt(i))) {
+            i++;
+            digits++;
+        }
+
+        if (i < length && trimmed.charAt(i) == '.') {
+            i++;
+
+            while (i < length && isDigit(trimmed.charAt(i))) {
+                i++;
+                digits++;
+            }
+        }
+
+        if (digits == 0) return ConvertResult.INVALID;
+
+        if (i < length && (trimmed.charAt(i) == 'e' || trimmed.charAt(i) == 'E')) {
+            i++;
+
+            if (i < length && (trimmed.charAt(i) == '-' || trimmed.charAt(i) == '+')) i++;
+
+            int exponentDigits = 0;
+
+            while (i < length && isDigit(trimmed.charAt(i))) {
+                i++;
+                exponentDigits++;
+            }
+
+            if (exponentDigits == 0) return ConvertResult.INVALID;
+        }
+
+        if (i != length) return ConvertResult.INVALID;
+
+        //형식 검사를 통과했으므로 예외 없음
+        return result.doubleValue(Double.parseDouble(trimmed));
+    }
+
+    /**
+     * formatter로 전체 문자열이 파싱되는지 예외 없이 확인
+     */
+    static boolean matches(DateTimeFormatter formatter, String text) {
+        ParsePosition position = new ParsePosition(0);
+
+        return formatter.parseUnresolved(text, position) != null
+                && position.getErrorIndex() < 0
+                && position.getIndex() == text.length();
+    }
+
+    /**
+     * 8-4-4-4-12 형식의 16진수 UUID 문자열 여부
+     */
+    static boolean isUuid(String text) {
+        if (text.length() != 36) return false;
+
+        for (int i = 0; i < 36; i++) {
+            char ch = text.charAt(i);
+
+            if (i == 8 || i == 13 || i == 18 || i == 23) {
+                if (ch != '-') return false;
+            } else if (Character.digit(ch, 16) < 0) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    private static boolean isDigit(char ch) {
+        return ch >= '0' && ch <= '9';
+    }
+
+}
@@ -0,0 +1,8 @@
+package org.excel.convert;
+
+/**
+ * 변환기가 결과를 저장하는 ConvertResult 슬롯
+ */
+public enum ValueKind {
+    OBJECT, LONG, DOUBLE, BOOLEAN
+}
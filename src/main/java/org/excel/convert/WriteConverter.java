@@ -0,0 +1,14 @@
+package org.excel.convert;
+
+import org.apache.poi.ss.usermodel.Cell;
+
+/**
+ * 필드 값 → 셀 변환기
+ * 필드별로 한 번 결정되며 null 값은 호출하지 않음
+ */
+@FunctionalInterface
+public interface WriteConverter {
+
+    void write(Cell cell, Object value);
+
+}
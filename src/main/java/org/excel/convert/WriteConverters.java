@@ -0,0 +1,83 @@
+package org.excel.convert;
+
+import org.apache.poi.ss.usermodel.Cell;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.UUID;
+
+/**
+ * 기본 제공 쓰기 변환기
+ */
+public final class WriteConverters {
+
+    private static final WriteConverter NUMBER = (cell, value) -> cell.setCellValue(((Number) value).doubleValue());
+
+    private static final WriteConverter LOCAL_DATE = (cell, value) -> cell.setCellValue((LocalDate) value);
+
+    private static final WriteConverter LOCAL_DATE_TIME = (cell, value) -> cell.setCellValue((LocalDateTime) value);
+
+    //엑셀 날짜는 시간대가 없으므로 UTC 기준으로 기록
+    private static final WriteConverter INSTANT = (cell, value) -> cell.setCellValue(LocalDateTime.ofInstant((Instant) value, ZoneOffset.UTC));
+
+    private static final WriteConverter ENUM = (cell, value) -> cell.setCellValue(enumText((Enum<?>) value));
+
+    private static final WriteConverter TEXT = (cell, value) -> cell.setCellValue(value.toString());
+
+    //선언 타입으로 결정할 수 없으면 실제 값 타입으로 분기
+    private static final WriteConverter DYNAMIC = (cell, value) -> {
+        if (value instanceof Number) {
+            NUMBER.write(cell, value);
+        } else if (value instanceof LocalDate) {
+            LOCAL_DATE.write(cell, value);
+        } else if (value instanceof LocalDateTime) {
+            LOCAL_DATE_TIME.write(cell, value);
+        } else if (value instanceof Instant) {
+            INSTANT.write(cell, value);
+        } else if (value instanceof Enum<?>) {
+            ENUM.write(cell, value);
+        } else {
+            TEXT.write(cell, value);
+        }
+    };
+
+    private WriteConverters() {
+    }
+
+    /**
+     * 필드 선언 타입에 맞는 변환기 결정 (필드별로 한 번만 호출)
+     */
+    public static WriteConverter resolve(Class<?> type) {
+        Class<?> boxed = type.isPrimitive() ? box(type) : type;
+
+        if (Number.class.isAssignableFrom(boxed)) return NUMBER;
+        if (boxed == LocalDate.class) return LOCAL_DATE;
+        if (boxed == LocalDateTime.class) return LOCAL_DATE_TIME;
+        if (boxed == Instant.class) return INSTANT;
+        if (boxed.isEnum()) return ENUM;
+        if (boxed == String.class || boxed == Boolean.class || boxed == Character.class || boxed == UUID.class) return TEXT;
+
+        return DYNAMIC;
+    }
+
+    /**
+     * enum 셀 문자열 (xlsx, CSV 공통), 기존과 같이 toString 값이며 읽기는 name, toString 모두 허용
+     */
+    public static String enumText(Enum<?> value) {
+        return value.toString();
+    }
+
+    private static Class<?> box(Class<?> type) {
+        if (type == int.class) return Integer.class;
+        if (type == long.class) return Long.class;
+        if (type == double.class) return Double.class;
+        if (type == float.class) return Float.class;
+        if (type == short.class) return Short.class;
+        if (type == byte.class) return Byte.class;
+        if (type == boolean.class) return Boolean.class;
+        return Character.class;
+    }
+
+}
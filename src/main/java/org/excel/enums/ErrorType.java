@@ -0,0 +1,15 @@
+package org.excel.enums;
+
+/**
+ * 검증 오류 종류
+ */
+public enum ErrorType {
+    //필드 타입으로 변환할 수 없는 값 (기본값으로 대체됨)
+    INVALID,
+    //required 컬럼의 빈 셀
+    REQUIRED,
+    //min, max 범위를 벗어난 숫자
+    RANGE,
+    //regex와 일치하지 않는 문자열
+    PATTERN
+}
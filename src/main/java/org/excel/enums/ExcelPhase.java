@@ -0,0 +1,17 @@
+package org.excel.enums;
+
+/**
+ * metrics 측정 단계
+ */
+public enum ExcelPhase {
+    //파일 열기 (압축 해제, 공유 문자열 로드, 템플릿 로드)
+    OPEN,
+    //row 파싱 (xml, xls 레코드, CSV)
+    PARSE,
+    //셀 변환 및 DTO 필드 설정
+    CONVERT,
+    //row, 셀 작성
+    WRITE,
+    //workbook 저장 (zip 압축)
+    SAVE
+}
@@ -0,0 +1,145 @@
+package org.excel.meta;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.lang.invoke.CallSite;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Modifier;
+import java.util.Arrays;
+import java.util.function.Supplier;
+
+/**
+ * DTO 필드 accessor / 생성자 생성기
+ * 필드는 필드 직접 접근 MethodHandle을 상수로 가진 hidden class, 기본 생성자는 LambdaMetafactory로 연결해 리플렉션 호출을 제거
+ * lookup 권한이 없으면 리플렉션으로 대체
+ */
+public final class Accessors {
+
+    private Accessors() {
+    }
+
+    /**
+     * 필드 직접 접근 accessor (getter/setter 메서드는 사용하지 않음)
+     * 필드 handle을 만들 수 없으면(final 필드, 모듈 권한 등) 리플렉션 accessor로 대체
+     */
+    public static FieldAccessor forField(Field field) {
+        ReflectionFieldAccessor fallback = new ReflectionFieldAccessor(field);
+
+        if (Modifier.isFinal(field.getModifiers())) {
+            return fallback;
+        }
+
+        Class<?> type = field.getType();
+
+        try {
+            MethodHandles.Lookup lookup = MethodHandles.privateLookupIn(field.getDeclaringClass(), MethodHandles.lookup());
+
+            MethodHandle getter = lookup.unreflectGetter(field);
+            MethodHandle setter = lookup.unreflectSetter(field);
+
+            MethodHandle[] handles = new MethodHandle[7];
+            handles[HandleFieldAccessor.GETTER_INDEX] = getter.asType(MethodType.methodType(Object.class, Object.class));
+            handles[HandleFieldAccessor.SETTER_INDEX] = setter.asType(MethodType.methodType(void.class, Object.class, Object.class));
+            handles[HandleFieldAccessor.INT_SETTER_INDEX] = type == int.class ? setter.asType(MethodType.methodType(void.class, Object.class, int.class)) : null;
+            handles[HandleFieldAccessor.LONG_SETTER_INDEX] = type == long.class ? setter.asType(MethodType.methodType(void.class, Object.class, long.class)) : null;
+            handles[HandleFieldAccessor.DOUBLE_SETTER_INDEX] = type == double.class ? setter.asType(MethodType.methodType(void.class, Object.class, double.class)) : null;
+            handles[HandleFieldAccessor.BOOLEAN_SETTER_INDEX] = type == boolean.class ? setter.asType(MethodType.methodType(void.class, Object.class, boolean.class)) : null;
+            handles[HandleFieldAccessor.DOUBLE_GETTER_INDEX] = isWideningToDouble(type) ? getter.asType(MethodType.methodType(double.class, Object.class)) : null;
+
+            return defineAccessor(handles);
+        } catch (VirtualMachineError e) {
+            throw e;
+        } catch (Throwable e) {
+            //모듈 권한, hidden class 정의 실패 등
+            return fallback;
+        }
+    }
+
+    /**
+     * HandleFieldAccessor bytes를 hidden class로 정의해 handle을 static final 상수로 보관하는 accessor 생성
+     * hidden class는 참조가 없어지면 DTO 클래스와 관계없이 unload 가능
+     */
+    private static FieldAccessor defineAccessor(MethodHandle[] handles) throws Throwable {
+        MethodHandles.Lookup hidden = MethodHandles.lookup()
+                .defineHiddenClassWithClassData(TemplateHolder.BYTES, Arrays.asList(handles), true);
+
+        return (FieldAccessor) hidden.findConstructor(hidden.lookupClass(), MethodType.methodType(void.class)).invoke();
+    }
+
+    //accessor template class bytes (처음 사용할 때 한 번 로딩)
+    private static final class TemplateHolder {
+
+        private static final byte[] BYTES = load();
+
+        private static byte[] load() {
+            try (InputStream inputStream = HandleFieldAccessor.class.getResourceAsStream("HandleFieldAccessor.class")) {
+                if (inputStream == null) throw new IllegalStateException("HandleFieldAccessor.class not found");
+
+                return inputStream.readAllBytes();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+
+    //double로 손실 없이 넓힐 수 있는 원시 숫자 타입
+    private static boolean isWideningToDouble(Class<?> type) {
+        return type == int.class || type == long.class || type == double.class || type == float.class || type == short.class || type == byte.class;
+    }
+
+    /**
+     * 기본 생성자 Supplier 생성, 기본 생성자가 없으면 null
+     */
+    @SuppressWarnings("unchecked")
+    public static Supplier<Object> forConstructor(Class<?> type) {
+        Constructor<?> constructor;
+
+        try {
+            constructor = type.getDeclaredConstructor();
+            constructor.setAccessible(true);
+        } catch (NoSuchMethodException | RuntimeException e) {
+            //쓰기 전용 DTO는 기본 생성자가 없어도 됨
+            return null;
+        }
+
+        if (!Modifier.isAbstract(type.getModifiers())) {
+            try {
+                MethodHandles.Lookup lookup = MethodHandles.privateLookupIn(type, MethodHandles.lookup());
+
+                return (Supplier<Object>) lambda(lookup, Supplier.class, "get", MethodType.methodType(Object.class), lookup.unreflectConstructor(constructor), MethodType.methodType(type));
+            } catch (Throwable e) {
+                //리플렉션 생성으로 대체
+            }
+        }
+
+        return () -> {
+            try {
+                return constructor.newInstance();
+            } catch (InstantiationException | IllegalAccessException | InvocationTargetException e) {
+                throw new IllegalStateException(e);
+            }
+        };
+    }
+
+    private static Object lambda(MethodHandles.Lookup lookup, Class<?> functionType, String methodName, MethodType erasedType,
+                                 MethodHandle implementation, MethodType instantiatedType) throws Throwable {
+        CallSite callSite = LambdaMetafactory.metafactory(
+                lookup,
+                methodName,
+                MethodType.methodType(functionType),
+                erasedType,
+                implementation,
+                instantiatedType
+        );
+
+        return callSite.getTarget().invoke();
+    }
+
+}
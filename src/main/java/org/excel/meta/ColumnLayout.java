@@ -0,0 +1,17 @@
+package org.excel.meta;
+
+/**
+ * 시트 하나에서 readColumns 순서로 계산한 컬럼 위치
+ * ends는 collection 필드의 끝 컬럼(exclusive)이며 -1이면 row의 마지막 셀까지
+ */
+public record ColumnLayout(int[] columns, int[] ends) {
+
+    public int column(int index) {
+        return columns[index];
+    }
+
+    public int end(int index) {
+        return ends[index];
+    }
+
+}
@@ -0,0 +1,161 @@
+package org.excel.meta;
+
+import lombok.Getter;
+import org.excel.annotation.ExcelColumnRead;
+import org.excel.annotation.ExcelColumnWrite;
+import org.excel.annotation.ExcelSheetInfo;
+import org.excel.read.ReadRow;
+
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * DTO 클래스 하나의 불변 매핑 계획
+ * 컬럼은 column 번호 순으로 정렬
+ */
+@Getter
+public class ExcelClassMeta {
+
+    private final Class<?> type;
+
+    //시트 annotation (없으면 null)
+    private final ExcelSheetInfo sheetInfo;
+
+    //결과 map key (지정한 이름이 없으면 클래스명)
+    private final String sheetKey;
+
+    private final ReadColumn[] readColumns;
+
+    private final WriteColumn[] writeColumns;
+
+    //annotation 컬럼 번호 기준 위치
+    private final ColumnLayout positionalLayout;
+
+    //헤더 row로 컬럼 위치를 계산해야 하는지 여부 (header 매핑, dynamicSide collection)
+    private final boolean headerResolved;
+
+    //FIELD 타입 시트에서 읽어야 하는 마지막 row
+    private final int lastReadRow;
+
+    //기본 생성자 (없으면 null)
+    private final Supplier<Object> constructor;
+
+    ExcelClassMeta(Class<?> type) {
+        this.type = type;
+        this.sheetInfo = type.getAnnotation(ExcelSheetInfo.class);
+        this.sheetKey = sheetInfo != null && !sheetInfo.value().isEmpty() ? sheetInfo.value() : type.getSimpleName();
+
+        List<ReadColumn> reads = new ArrayList<>();
+        List<WriteColumn> writes = new ArrayList<>();
+        int lastRow = -1;
+
+        for (Field field : type.getDeclaredFields()) {
+            if (field.isAnnotationPresent(ExcelColumnRead.class)) {
+                ReadColumn column = new ReadColumn(field);
+                ExcelColumnRead info = column.getInfo();
+
+                //시트 참조 collection 외에는 column 번호나 header 중 하나는 지정해야 함
+                if (info.column() < 0 && info.header().isEmpty() && (!info.isCollection() || column.isDynamic())) {
+                    throw new IllegalArgumentException(type.getName() + "." + field.getName()
+                            + " @ExcelColumnRead requires column >= 0 or header");
+                }
+
+                reads.add(column);
+                lastRow = Math.max(lastRow, column.getInfo().row());
+            }
+
+            if (field.isAnnotationPresent(ExcelColumnWrite.class)) {
+                writes.add(new WriteColumn(field));
+            }
+        }
+
+        reads.sort(Comparator.comparingInt(column -> column.getInfo().column()));
+        writes.sort(Comparator.comparingInt(column -> column.getInfo().column()));
+
+        this.readColumns = reads.toArray(new ReadColumn[0]);
+        this.writeColumns = writes.toArray(new WriteColumn[0]);
+        this.positionalLayout = new ColumnLayout(
+                reads.stream().mapToInt(column -> column.getInfo().column()).toArray(),
+                reads.stream().mapToInt(column -> -1).toArray()
+        );
+        this.headerResolved = reads.stream().anyMatch(column -> !column.getInfo().header().isEmpty()
+                || (sheetInfo != null && sheetInfo.dynamicSide() && column.isDynamic()));
+        this.lastReadRow = lastRow;
+        this.constructor = Accessors.forConstructor(type);
+    }
+
+    /**
+     * 기본 생성자로 인스턴스 생성
+     */
+    public Object newInstance() throws NoSuchMethodException {
+        if (constructor == null) {
+            throw new NoSuchMethodException(type.getName() + ".<init>()");
+        }
+
+        return constructor.get();
+    }
+
+    /**
+     * 헤더 row로 readColumns 순서의 컬럼 위치 계산 (시트당 한 번)
+     * header가 없는 필드는 annotation 컬럼 번호 사용
+     * dynamicSide 시트의 collection 필드는 헤더의 마지막 컬럼까지로 범위 고정
+     */
+    public ColumnLayout resolveLayout(ReadRow headerRow) {
+        Map<String, Integer> headers = new HashMap<>();
+        int headerEnd = -1;
+
+        for (int i = 0; headerRow != null && i < headerRow.getLastCellNum(); i++) {
+            String text = headerText(headerRow, i);
+
+            if (text == null || text.isEmpty()) continue;
+
+            //같은 헤더가 여러개면 첫 번째 컬럼
+            headers.putIfAbsent(text, i);
+            headerEnd = i + 1;
+        }
+
+        int[] columns = positionalLayout.columns().clone();
+        int[] ends = positionalLayout.ends().clone();
+
+        for (int i = 0; i < readColumns.length; i++) {
+            ReadColumn column = readColumns[i];
+            String header = column.getInfo().header();
+
+            if (!header.isEmpty()) {
+                Integer index = headers.get(header.trim());
+
+                if (index == null) {
+                    throw new IllegalArgumentException(type.getName() + " header not found : " + header);
+                }
+
+                columns[i] = index;
+            }
+
+            //헤더가 없으면 row 끝까지
+            if (sheetInfo.dynamicSide() && column.isDynamic() && headerEnd >= 0) {
+                ends[i] = Math.max(headerEnd, columns[i]);
+            }
+        }
+
+        return new ColumnLayout(columns, ends);
+    }
+
+    private static String headerText(ReadRow row, int column) {
+        return switch (row.getCellType(column)) {
+            case _NONE, BLANK -> null;
+            case STRING -> row.getStringValue(column).trim();
+            case NUMERIC -> {
+                double num = row.getNumericValue(column);
+
+                yield num == Math.rint(num) && !Double.isInfinite(num) ? String.valueOf((long) num) : String.valueOf(num);
+            }
+            default -> row.getText(column).trim();
+        };
+    }
+
+}
@@ -0,0 +1,23 @@
+package org.excel.meta;
+
+/**
+ * DTO 클래스별 매핑 메타데이터 저장소
+ * ClassValue 기반이라 thread-safe 하며 클래스당 한 번만 리플렉션 수행
+ */
+public final class ExcelMetaRegistry {
+
+    private static final ClassValue<ExcelClassMeta> CACHE = new ClassValue<>() {
+        @Override
+        protected ExcelClassMeta computeValue(Class<?> type) {
+            return new ExcelClassMeta(type);
+        }
+    };
+
+    private ExcelMetaRegistry() {
+    }
+
+    public static ExcelClassMeta get(Class<?> type) {
+        return CACHE.get(type);
+    }
+
+}
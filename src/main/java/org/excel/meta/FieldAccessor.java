@@ -0,0 +1,34 @@
+package org.excel.meta;
+
+/**
+ * DTO 필드 조회/설정 handle
+ * 원시 타입 필드는 primitive 메서드로 boxing 없이 설정 가능
+ * 필드마다 구현 클래스가 다르므로(hidden class) interface 호출보다 싼 virtual 호출이 되도록 abstract class
+ */
+public abstract class FieldAccessor {
+
+    public abstract Object get(Object target);
+
+    public abstract void set(Object target, Object value);
+
+    public void setInt(Object target, int value) {
+        set(target, value);
+    }
+
+    public void setLong(Object target, long value) {
+        set(target, value);
+    }
+
+    public void setDouble(Object target, double value) {
+        set(target, value);
+    }
+
+    public void setBoolean(Object target, boolean value) {
+        set(target, value);
+    }
+
+    public double getDouble(Object target) {
+        return ((Number) get(target)).doubleValue();
+    }
+
+}
@@ -0,0 +1,155 @@
+package org.excel.meta;
+
+import java.lang.constant.ConstantDescs;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+
+/**
+ * 필드 직접 접근 MethodHandle(unreflectGetter / unreflectSetter) 기반 accessor의 template
+ * Accessors가 이 클래스의 bytes를 필드마다 hidden class로 정의하고 handle 목록을 class data로 전달
+ * handle이 static final 상수이므로 JIT이 invokeExact를 필드 접근으로 inline (인스턴스 필드 handle은 inline 불가)
+ * getter/setter 메서드를 거치지 않으므로 리플렉션 accessor와 같은 필드 동작 (메서드의 부가 로직은 실행되지 않음)
+ * 이 클래스 자체는 초기화하지 않음 (class data가 없으면 초기화 실패)
+ */
+final class HandleFieldAccessor extends FieldAccessor {
+
+    //class data index
+    static final int GETTER_INDEX = 0;
+
+    static final int SETTER_INDEX = 1;
+
+    static final int INT_SETTER_INDEX = 2;
+
+    static final int LONG_SETTER_INDEX = 3;
+
+    static final int DOUBLE_SETTER_INDEX = 4;
+
+    static final int BOOLEAN_SETTER_INDEX = 5;
+
+    static final int DOUBLE_GETTER_INDEX = 6;
+
+    //(Object)Object
+    private static final MethodHandle GETTER = handle(GETTER_INDEX);
+
+    //(Object, Object)void
+    private static final MethodHandle SETTER = handle(SETTER_INDEX);
+
+    //원시 타입 필드 전용 (해당 타입이 아니면 null)
+    private static final MethodHandle INT_SETTER = handle(INT_SETTER_INDEX);
+
+    private static final MethodHandle LONG_SETTER = handle(LONG_SETTER_INDEX);
+
+    private static final MethodHandle DOUBLE_SETTER = handle(DOUBLE_SETTER_INDEX);
+
+    private static final MethodHandle BOOLEAN_SETTER = handle(BOOLEAN_SETTER_INDEX);
+
+    //(Object)double, double로 넓힐 수 있는 원시 숫자 필드만 (그 외 null)
+    private static final MethodHandle DOUBLE_GETTER = handle(DOUBLE_GETTER_INDEX);
+
+    HandleFieldAccessor() {
+    }
+
+    private static MethodHandle handle(int index) {
+        try {
+            return MethodHandles.classDataAt(MethodHandles.lookup(), ConstantDescs.DEFAULT_NAME, MethodHandle.class, index);
+        } catch (IllegalAccessException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    @Override
+    public Object get(Object target) {
+        try {
+            return (Object) GETTER.invokeExact(target);
+        } catch (Throwable e) {
+            throw rethrow(e);
+        }
+    }
+
+    @Override
+    public void set(Object target, Object value) {
+        try {
+            SETTER.invokeExact(target, value);
+        } catch (Throwable e) {
+            throw rethrow(e);
+        }
+    }
+
+    @Override
+    public void setInt(Object target, int value) {
+        if (INT_SETTER == null) {
+            set(target, value);
+            return;
+        }
+
+        try {
+            INT_SETTER.invokeExact(target, value);
+        } catch (Throwable e) {
+            throw rethrow(e);
+        }
+    }
+
+    @Override
+    public void setLong(Object target, long value) {
+        if (LONG_SETTER == null) {
+            set(target, value);
+            return;
+        }
+
+        try {
+            LONG_SETTER.invokeExact(target, value);
+        } catch (Throwable e) {
+            throw rethrow(e);
+        }
+    }
+
+    @Override
+    public void setDouble(Object target, double value) {
+        if (DOUBLE_SETTER == null) {
+            set(target, value);
+            return;
+        }
+
+        try {
+            DOUBLE_SETTER.invokeExact(target, value);
+        } catch (Throwable e) {
+            throw rethrow(e);
+        }
+    }
+
+    @Override
+    public void setBoolean(Object target, boolean value) {
+        if (BOOLEAN_SETTER == null) {
+            set(target, value);
+            return;
+        }
+
+        try {
+            BOOLEAN_SETTER.invokeExact(target, value);
+        } catch (Throwable e) {
+            throw rethrow(e);
+        }
+    }
+
+    @Override
+    public double getDouble(Object target) {
+        if (DOUBLE_GETTER == null) {
+            return ((Number) get(target)).doubleValue();
+        }
+
+        try {
+            return (double) DOUBLE_GETTER.invokeExact(target);
+        } catch (Throwable e) {
+            throw rethrow(e);
+        }
+    }
+
+    //필드 접근은 checked 예외가 없으므로 타입 오류(ClassCastException 등)만 그대로 전달
+    private static RuntimeException rethrow(Throwable e) {
+        if (e instanceof RuntimeException runtimeException) return runtimeException;
+        if (e instanceof Error error) throw error;
+
+        return new IllegalStateException(e);
+    }
+
+}
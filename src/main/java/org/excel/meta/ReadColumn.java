@@ -0,0 +1,310 @@
+package org.excel.meta;
+
+import lombok.Getter;
+import org.excel.annotation.ExcelColumnRead;
+import org.excel.annotation.ExcelSheetInfo;
+import org.excel.convert.ConvertResult;
+import org.excel.convert.ConverterRegistry;
+import org.excel.convert.ReadConverter;
+import org.excel.convert.ReadConverters;
+import org.excel.convert.ValueKind;
+import org.excel.enums.ErrorType;
+import org.excel.read.ReadRow;
+
+import java.lang.reflect.Array;
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Pattern;
+
+/**
+ * @ExcelColumnRead 필드 하나의 읽기 매핑 정보
+ */
+@Getter
+public class ReadColumn {
+
+    private final Field field;
+
+    private final ExcelColumnRead info;
+
+    //필드 타입
+    private final Class<?> type;
+
+    private final FieldAccessor accessor;
+
+    //필드 타입 변환기
+    private final ReadConverter converter;
+
+    //collection 필드의 원소 타입 (배열 필드는 배열 원소 타입, 그 외 fieldClass)
+    private final Class<?> elementType;
+
+    //collection 필드의 원소 변환기
+    private final ReadConverter elementConverter;
+
+    //변환 실패시 기본값
+    private final Object defaultValue;
+
+    //원시 타입 setter 사용 여부
+    private final boolean unboxed;
+
+    //join 기준 필드 (join이 없으면 null)
+    private final FieldAccessor joinKeyAccessor;
+
+    //참조 시트 클래스의 join 대상 필드 (join이 없으면 null)
+    private final FieldAccessor joinFieldAccessor;
+
+    //min, max 지정 여부
+    private final boolean ranged;
+
+    //regex (지정하지 않으면 null)
+    private final Pattern regex;
+
+    ReadColumn(Field field) {
+        this.field = field;
+        this.info = field.getAnnotation(ExcelColumnRead.class);
+        this.type = field.getType();
+        this.accessor = Accessors.forField(field);
+        this.converter = info.isCollection() ? null : ConverterRegistry.resolveRead(type, info);
+        this.elementType = type.isArray() ? type.getComponentType() : info.fieldClass();
+        this.elementConverter = info.isCollection() ? ConverterRegistry.resolveRead(elementType, info) : null;
+        this.defaultValue = ReadConverters.defaultValue(type);
+        this.unboxed = converter != null && isUnboxed(type, converter.kind());
+
+        this.ranged = info.min() != Double.NEGATIVE_INFINITY || info.max() != Double.POSITIVE_INFINITY;
+        this.regex = info.regex().isEmpty() ? null : Pattern.compile(info.regex());
+
+        if (info.joinKey().isEmpty()) {
+            this.joinKeyAccessor = null;
+            this.joinFieldAccessor = null;
+        } else {
+            String joinField = info.joinField().isEmpty() ? info.joinKey() : info.joinField();
+
+            this.joinKeyAccessor = Accessors.forField(declaredField(field.getDeclaringClass(), info.joinKey()));
+            this.joinFieldAccessor = Accessors.forField(declaredField(info.fieldClass(), joinField));
+        }
+    }
+
+    private static Field declaredField(Class<?> type, String name) {
+        try {
+            return type.getDeclaredField(name);
+        } catch (NoSuchFieldException e) {
+            throw new IllegalArgumentException(type.getName() + " join field not found : " + name, e);
+        }
+    }
+
+    /**
+     * 변환기 슬롯에서 원시 필드로 바로 설정 가능한지 여부
+     */
+    private static boolean isUnboxed(Class<?> type, ValueKind kind) {
+        return switch (kind) {
+            case LONG -> type == int.class || type == long.class;
+            case DOUBLE -> type == double.class;
+            case BOOLEAN -> type == boolean.class;
+            case OBJECT -> false;
+        };
+    }
+
+    /**
+     * 셀 값을 변환해 필드에 설정, 변환 실패시 기본값 설정
+     * 값이 비어있지 않으면 true (원시 타입은 항상 true)
+     */
+    public boolean read(ReadRow row, int column, Object target, ConvertResult result) {
+        int status = result.count(converter.convert(row, column, result), field.getName(), column);
+
+        if (result.isValidating()) {
+            validate(status, row, column, result);
+        }
+
+        if (status != ConvertResult.SUCCESS) {
+            accessor.set(target, defaultValue);
+            return type.isPrimitive();
+        }
+
+        if (!unboxed) {
+            Object value = result.toObject(converter.kind(), type);
+            accessor.set(target, value);
+
+            return type.isPrimitive() || (value != null && !(value instanceof String text && text.isEmpty()));
+        }
+
+        //원시 타입은 boxing 없이 설정
+        if (type == int.class) {
+            accessor.setInt(target, (int) result.getLong());
+        } else if (type == long.class) {
+            accessor.setLong(target, result.getLong());
+        } else if (type == double.class) {
+            accessor.setDouble(target, result.getDouble());
+        } else {
+            accessor.setBoolean(target, result.getBoolean());
+        }
+
+        return true;
+    }
+
+    /**
+     * 변환 결과를 required, min, max, regex 조건으로 검사해 오류 추가
+     */
+    private void validate(int status, ReadRow row, int column, ConvertResult result) {
+        if (status == ConvertResult.INVALID) {
+            result.reject(ErrorType.INVALID, field.getName(), column, row.getText(column));
+            return;
+        }
+
+        if (status == ConvertResult.BLANK || isEmptyText(result)) {
+            if (info.required()) result.reject(ErrorType.REQUIRED, field.getName(), column, null);
+            return;
+        }
+
+        if (ranged) {
+            double num = numericValue(result);
+
+            if (num < info.min() || num > info.max()) {
+                result.reject(ErrorType.RANGE, field.getName(), column, row.getText(column));
+            }
+        }
+
+        if (regex != null) {
+            String text = type == String.class ? (String) result.getValue() : row.getText(column);
+
+            if (!regex.matcher(text).matches()) {
+                result.reject(ErrorType.PATTERN, field.getName(), column, text);
+            }
+        }
+    }
+
+    private boolean isEmptyText(ConvertResult result) {
+        return converter.kind() == ValueKind.OBJECT
+                && (result.getValue() == null || result.getValue() instanceof String text && text.isEmpty());
+    }
+
+    //숫자가 아닌 값은 NaN (범위 검사 제외)
+    private double numericValue(ConvertResult result) {
+        return switch (converter.kind()) {
+            case LONG -> result.getLong();
+            case DOUBLE -> result.getDouble();
+            case OBJECT -> result.getValue() instanceof Number number ? number.doubleValue() : Double.NaN;
+            case BOOLEAN -> Double.NaN;
+        };
+    }
+
+    /**
+     * 참조 시트 원소를 join 기준 값으로 나누는 collection 필드 여부
+     */
+    public boolean isJoined() {
+        return joinKeyAccessor != null;
+    }
+
+    //부모 row의 join 값
+    public Object joinKeyOf(Object parent) {
+        return normalizeKey(joinKeyAccessor.get(parent));
+    }
+
+    //참조 시트 원소의 join 값
+    public Object joinFieldOf(Object element) {
+        return normalizeKey(joinFieldAccessor.get(element));
+    }
+
+    /**
+     * 숫자는 타입이 달라도 같은 값이면 같은 key (정수는 Long, 그 외 Double)
+     */
+    private static Object normalizeKey(Object value) {
+        if (value instanceof Integer || value instanceof Long || value instanceof Short || value instanceof Byte) {
+            return ((Number) value).longValue();
+        }
+
+        if (value instanceof Number number) {
+            double num = number.doubleValue();
+
+            return num == Math.rint(num) && !Double.isInfinite(num) ? (Object) (long) num : (Object) num;
+        }
+
+        return value;
+    }
+
+    /**
+     * 셀 범위를 원소로 읽는 collection 필드 여부 (시트 참조 collection 제외)
+     */
+    public boolean isDynamic() {
+        return info.isCollection() && !elementType.isAnnotationPresent(ExcelSheetInfo.class);
+    }
+
+    /**
+     * collection 원소 하나 변환, 변환 실패시 원소 타입 기본값
+     */
+    public Object readElement(ReadRow row, int column, ConvertResult result) {
+        if (result.count(elementConverter.convert(row, column, result), field.getName(), column) != ConvertResult.SUCCESS) {
+            return ReadConverters.defaultValue(elementType);
+        }
+
+        return result.toObject(elementConverter.kind(), elementType);
+    }
+
+    /**
+     * start ~ end(exclusive) 셀을 collection 필드에 설정
+     * double[], int[], long[] 필드는 boxing 없이 원시 배열, 그 외 배열 필드는 배열, 나머지는 크기를 지정한 List
+     * 값이 비어있지 않은 원소가 있으면 true
+     */
+    public boolean readElements(ReadRow row, int start, int end, Object target, ConvertResult result) {
+        int length = Math.max(end - start, 0);
+        boolean isNotEmpty = false;
+
+        if (type == double[].class || type == int[].class || type == long[].class) {
+            Object values = Array.newInstance(elementType, length);
+
+            for (int i = 0; i < length; i++) {
+                if (result.count(elementConverter.convert(row, start + i, result), field.getName(), start + i) != ConvertResult.SUCCESS) continue;
+
+                isNotEmpty = true;
+
+                if (type == double[].class) {
+                    ((double[]) values)[i] = elementDouble(result);
+                } else if (type == int[].class) {
+                    ((int[]) values)[i] = (int) elementLong(result);
+                } else {
+                    ((long[]) values)[i] = elementLong(result);
+                }
+            }
+
+            accessor.set(target, values);
+            return isNotEmpty;
+        }
+
+        Object[] array = type.isArray() ? (Object[]) Array.newInstance(elementType, length) : null;
+        List<Object> list = array == null ? new ArrayList<>(length) : null;
+
+        for (int i = 0; i < length; i++) {
+            Object value = readElement(row, start + i, result);
+
+            if (!isNotEmpty && (value != null && !value.toString().isEmpty())) {
+                isNotEmpty = true;
+            }
+
+            if (array != null) {
+                array[i] = value;
+            } else {
+                list.add(value);
+            }
+        }
+
+        accessor.set(target, array != null ? array : list);
+
+        return isNotEmpty;
+    }
+
+    private double elementDouble(ConvertResult result) {
+        return switch (elementConverter.kind()) {
+            case DOUBLE -> result.getDouble();
+            case LONG -> result.getLong();
+            default -> ((Number) result.toObject(elementConverter.kind(), elementType)).doubleValue();
+        };
+    }
+
+    private long elementLong(ConvertResult result) {
+        return switch (elementConverter.kind()) {
+            case LONG -> result.getLong();
+            case DOUBLE -> (long) result.getDouble();
+            default -> ((Number) result.toObject(elementConverter.kind(), elementType)).longValue();
+        };
+    }
+
+}
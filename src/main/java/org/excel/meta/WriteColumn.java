@@ -0,0 +1,61 @@
+package org.excel.meta;
+
+import lombok.Getter;
+import org.apache.poi.ss.usermodel.Cell;
+import org.excel.annotation.ExcelColumnWrite;
+import org.excel.convert.ConverterRegistry;
+import org.excel.convert.WriteConverter;
+import org.excel.convert.WriteConverters;
+
+import java.lang.reflect.Field;
+
+/**
+ * @ExcelColumnWrite 필드 하나의 쓰기 매핑 정보
+ */
+@Getter
+public class WriteColumn {
+
+    private final Field field;
+
+    private final ExcelColumnWrite info;
+
+    private final FieldAccessor accessor;
+
+    //필드 타입 변환기
+    private final WriteConverter converter;
+
+    //double로 바로 기록 가능한 원시 숫자 필드 여부
+    private final boolean primitiveNumber;
+
+    WriteColumn(Field field) {
+        this.field = field;
+        this.info = field.getAnnotation(ExcelColumnWrite.class);
+        this.accessor = Accessors.forField(field);
+        this.converter = ConverterRegistry.resolveWrite(field.getType(), info);
+
+        //사용자 변환기가 지정되지 않은 원시 숫자만
+        Class<?> type = field.getType();
+        this.primitiveNumber = type.isPrimitive() && type != boolean.class && type != char.class
+                && converter == WriteConverters.resolve(type);
+    }
+
+    /**
+     * dto의 필드 값을 셀에 기록, null은 빈 문자열
+     */
+    public void write(Cell cell, Object dto) {
+        //원시 숫자는 boxing 없이 기록
+        if (primitiveNumber) {
+            cell.setCellValue(accessor.getDouble(dto));
+            return;
+        }
+
+        Object value = accessor.get(dto);
+
+        if (value == null) {
+            cell.setCellValue("");
+        } else {
+            converter.write(cell, value);
+        }
+    }
+
+}
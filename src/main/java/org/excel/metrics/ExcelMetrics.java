@@ -0,0 +1,48 @@
+package org.excel.metrics;
+
+import org.excel.enums.ExcelPhase;
+
+/**
+ * 읽기 / 쓰기 측정값을 받는 listener
+ * 필요한 메소드만 구현, 여러 thread에서 동시에 호출될 수 있음 (시트 병렬 읽기, 병렬 row 변환)
+ * sheet는 시트 key (ExcelClassMeta.getSheetKey), 파일 전체 단계는 null
+ */
+public interface ExcelMetrics {
+
+    //측정하지 않음 (기본값, 측정 코드 실행 안 함)
+    ExcelMetrics NONE = new ExcelMetrics() {
+        @Override
+        public boolean isEnabled() {
+            return false;
+        }
+    };
+
+    default boolean isEnabled() {
+        return true;
+    }
+
+    //단계별 소요 시간
+    default void phase(String sheet, ExcelPhase phase, long nanos) {
+    }
+
+    //시트 하나 처리 결과 (row 수, 변환 / 작성한 셀 수, 소요 시간)
+    default void sheet(String sheet, long rows, long cells, long nanos) {
+    }
+
+    //형식이 맞지 않아 기본값으로 대체된 셀 (row, column은 0부터)
+    default void convertFailure(String sheet, String field, int row, int column) {
+    }
+
+    //입력에서 읽은 byte 수
+    default void bytesRead(long bytes) {
+    }
+
+    //출력에 작성한 byte 수
+    default void bytesWritten(long bytes) {
+    }
+
+    //workbook에 생성된 스타일, 폰트 수
+    default void styles(int styles, int fonts) {
+    }
+
+}
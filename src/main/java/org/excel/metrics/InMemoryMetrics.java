@@ -0,0 +1,93 @@
+package org.excel.metrics;
+
+import org.excel.enums.ExcelPhase;
+
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 이름별 누적 값을 메모리에 저장하는 metrics
+ * 이름 예) people.rows, people.parse.nanos, people.age.failures, open.nanos, bytes.read, styles
+ */
+public class InMemoryMetrics implements ExcelMetrics {
+
+    private final Map<String, LongAdder> counters = new ConcurrentHashMap<>();
+
+    @Override
+    public void phase(String sheet, ExcelPhase phase, long nanos) {
+        add(name(sheet, phase.name().toLowerCase(Locale.ROOT) + ".nanos"), nanos);
+    }
+
+    @Override
+    public void sheet(String sheet, long rows, long cells, long nanos) {
+        add(name(sheet, "rows"), rows);
+        add(name(sheet, "cells"), cells);
+        add(name(sheet, "nanos"), nanos);
+    }
+
+    @Override
+    public void convertFailure(String sheet, String field, int row, int column) {
+        add(name(sheet, "failures"), 1);
+        add(name(sheet, field + ".failures"), 1);
+    }
+
+    @Override
+    public void bytesRead(long bytes) {
+        add("bytes.read", bytes);
+    }
+
+    @Override
+    public void bytesWritten(long bytes) {
+        add("bytes.written", bytes);
+    }
+
+    //마지막 workbook 기준 값
+    @Override
+    public void styles(int styles, int fonts) {
+        set("styles", styles);
+        set("fonts", fonts);
+    }
+
+    /**
+     * 누적 값 조회 (기록이 없으면 0)
+     */
+    public long get(String name) {
+        LongAdder counter = counters.get(name);
+
+        return counter == null ? 0 : counter.sum();
+    }
+
+    /**
+     * 이름 순으로 정렬된 현재 값
+     */
+    public Map<String, Long> snapshot() {
+        Map<String, Long> snapshot = new TreeMap<>();
+
+        counters.forEach((name, counter) -> snapshot.put(name, counter.sum()));
+
+        return snapshot;
+    }
+
+    public void clear() {
+        counters.clear();
+    }
+
+    private void add(String name, long value) {
+        counters.computeIfAbsent(name, key -> new LongAdder()).add(value);
+    }
+
+    private void set(String name, long value) {
+        LongAdder counter = new LongAdder();
+        counter.add(value);
+
+        counters.put(name, counter);
+    }
+
+    private static String name(String sheet, String name) {
+        return sheet == null ? name : sheet + "." + name;
+    }
+
+}
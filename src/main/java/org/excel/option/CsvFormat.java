@@ -0,0 +1,62 @@
+package org.excel.option;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * CSV / TSV 텍스트 형식
+ * 구분자, 따옴표는 ASCII 문자만 가능
+ */
+@Getter
+@Builder
+public class CsvFormat {
+
+    @Builder.Default
+    private final Charset charset = StandardCharsets.UTF_8;
+
+    @Builder.Default
+    private final char delimiter = ',';
+
+    @Builder.Default
+    private final char quote = '"';
+
+    //쓰기시 모든 값을 따옴표로 감쌀지 여부 (false면 구분자, 따옴표, 줄바꿈이 있는 값만)
+    @Builder.Default
+    private final boolean quoteAll = false;
+
+    //쓰기시 줄바꿈 문자
+    @Builder.Default
+    private final String lineSeparator = "\r\n";
+
+    public static CsvFormat csv() {
+        return CsvFormat.builder().build();
+    }
+
+    public static CsvFormat tsv() {
+        return CsvFormat.builder().delimiter('\t').build();
+    }
+
+    /**
+     * 구분자, 따옴표, 줄바꿈이 ASCII와 같은 byte로 인코딩되는 charset 여부 (UTF-8, EUC-KR 등)
+     * 아니면 (UTF-16 등) byte 단위 파싱 불가
+     */
+    public boolean isAsciiCompatible() {
+        String control = "\r\n" + delimiter + quote;
+
+        return Arrays.equals(control.getBytes(charset), control.getBytes(StandardCharsets.US_ASCII));
+    }
+
+    /**
+     * 구분자, 따옴표 검증
+     */
+    public void validate() {
+        if (delimiter >= 0x80 || quote >= 0x80 || delimiter == quote || delimiter == '\r' || delimiter == '\n') {
+            throw new IllegalArgumentException("Invalid csv delimiter/quote : " + delimiter + " / " + quote);
+        }
+    }
+
+}
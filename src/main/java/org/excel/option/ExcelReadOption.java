@@ -0,0 +1,63 @@
+package org.excel.option;
+
+import lombok.Builder;
+import lombok.Getter;
+import org.excel.metrics.ExcelMetrics;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * 엑셀 읽기 옵션
+ */
+@Getter
+@Builder
+public class ExcelReadOption {
+
+    //xlsx 이벤트(StAX), xls 레코드 스트림 읽기 여부 (파일 크기와 관계없이 heap 사용량 고정)
+    @Builder.Default
+    private final boolean streaming = false;
+
+    //readExcel에서 클래스별 시트를 병렬로 읽을 executor (virtual thread executor 가능)
+    //xlsx, xls는 지정시 스트리밍 엔진으로 읽음, null이면 순차 처리
+    private final Executor sheetExecutor;
+
+    //LIST 시트 row 변환을 chunk 단위로 병렬 처리할 pool, null이면 순차 처리
+    private final ForkJoinPool rowPool;
+
+    //병렬 row 변환시 chunk 당 row 수
+    @Builder.Default
+    private final int rowChunkSize = 2048;
+
+    //스트리밍 xlsx 읽기시 shared strings를 UTF-8 bytes로 압축 보관 (문자열은 읽는 셀만 생성)
+    @Builder.Default
+    private final boolean compactSharedStrings = false;
+
+    //compact shared strings가 이 크기(byte)를 넘으면 임시 파일로 옮겨 memory-map, 음수면 항상 heap
+    @Builder.Default
+    private final long sharedStringsSpillSize = 64L * 1024 * 1024;
+
+    //workbook(xls, xlsx)이 아닌 입력을 읽을 CSV / TSV 형식, null이면 workbook만 허용
+    private final CsvFormat csv;
+
+    //단계별 시간, row / 셀 수, 변환 실패 등 측정값 listener (기본은 측정 안 함)
+    @Builder.Default
+    private final ExcelMetrics metrics = ExcelMetrics.NONE;
+
+    //@ExcelColumnRead required, min, max, regex 및 변환 실패 검사 여부
+    //오류가 있으면 읽기 후 ExcelValidationException
+    @Builder.Default
+    private final boolean validate = false;
+
+    //검증시 수집할 최대 오류 수, 도달하면 즉시 읽기 중단
+    @Builder.Default
+    private final int maxErrors = 100;
+
+    /**
+     * 기본 옵션 (WorkbookFactory 메모리 읽기)
+     */
+    public static ExcelReadOption defaults() {
+        return ExcelReadOption.builder().build();
+    }
+
+}
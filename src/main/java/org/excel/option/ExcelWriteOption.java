@@ -0,0 +1,54 @@
+package org.excel.option;
+
+import lombok.Builder;
+import lombok.Getter;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
+import org.excel.metrics.ExcelMetrics;
+import org.excel.write.TemplateCache;
+
+import java.util.concurrent.Executor;
+
+/**
+ * 엑셀 쓰기 옵션
+ */
+@Getter
+@Builder
+public class ExcelWriteOption {
+
+    //SXSSF 스트리밍 쓰기 여부 (row 수와 관계없이 heap 사용량 고정)
+    @Builder.Default
+    private final boolean streaming = false;
+
+    //스트리밍 쓰기시 메모리에 유지할 row 수
+    @Builder.Default
+    private final int rowAccessWindowSize = SXSSFWorkbook.DEFAULT_WINDOW_SIZE;
+
+    //스트리밍 쓰기시 임시 파일 gzip 압축 여부
+    @Builder.Default
+    private final boolean compressTempFiles = true;
+
+    //시트별 row 작성을 동시에 처리할 executor, null이면 순차 처리
+    //템플릿이 없으면 SXSSF로 작성 (시트별 임시 파일에 병렬로 작성 후 저장시 하나의 파일로 합침)
+    //xlsx 템플릿은 streaming도 지정한 경우에만 병렬 작성 (템플릿 마지막 row 이후부터만 작성 가능), 아니면 XSSF로 순차 작성
+    //xls 템플릿은 항상 순차 작성
+    private final Executor sheetExecutor;
+
+    //템플릿 캐시 (기본은 공유 캐시)
+    @Builder.Default
+    private final TemplateCache templateCache = TemplateCache.shared();
+
+    //지정시 workbook 대신 CSV / TSV로 작성 (템플릿 사용 불가)
+    private final CsvFormat csv;
+
+    //단계별 시간, row / 셀 수, 변환 실패 등 측정값 listener (기본은 측정 안 함)
+    @Builder.Default
+    private final ExcelMetrics metrics = ExcelMetrics.NONE;
+
+    /**
+     * 기본 옵션 (XSSF 메모리 쓰기)
+     */
+    public static ExcelWriteOption defaults() {
+        return ExcelWriteOption.builder().build();
+    }
+
+}
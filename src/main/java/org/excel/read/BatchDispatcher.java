@@ -0,0 +1,195 @@
+package org.excel.read;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * 변환된 row를 고정 크기 batch로 묶어 consumer에 전달
+ * executor가 있으면 bounded queue를 통해 별도 thread에서 consumer를 실행하며,
+ * queue가 가득 차면 파싱 thread가 대기 (backpressure)
+ * executor 사용시 queueCapacity는 1 이상이어야 함
+ * executor가 호출 thread에서 바로 실행하면(Runnable::run, CallerRunsPolicy 등) 파싱 thread에서 consumer를 실행 (동기 모드)
+ */
+public class BatchDispatcher<T> {
+
+    //consumer 종료 신호
+    private static final List<Object> END = new ArrayList<>();
+
+    private final int batchSize;
+
+    private final Consumer<List<T>> consumer;
+
+    //동기 모드면 null
+    private BlockingQueue<List<T>> queue;
+
+    //executor가 호출 thread에서 작업을 실행했는지 여부
+    private boolean callerRuns;
+
+    private final CountDownLatch finished = new CountDownLatch(1);
+
+    private volatile Throwable failure;
+
+    private volatile boolean aborted;
+
+    private List<T> batch;
+
+    public BatchDispatcher(int batchSize, Consumer<List<T>> consumer) {
+        this(batchSize, 0, null, consumer);
+    }
+
+    public BatchDispatcher(int batchSize, int queueCapacity, Executor executor, Consumer<List<T>> consumer) {
+        if (batchSize <= 0) {
+            throw new IllegalArgumentException("batchSize must be positive: " + batchSize);
+        }
+
+        if (executor != null && queueCapacity <= 0) {
+            throw new IllegalArgumentException("queueCapacity must be positive when executor is set: " + queueCapacity);
+        }
+
+        this.batchSize = batchSize;
+        this.consumer = consumer;
+        this.batch = new ArrayList<>(batchSize);
+
+        if (executor != null) {
+            this.queue = new ArrayBlockingQueue<>(queueCapacity);
+
+            Thread producer = Thread.currentThread();
+
+            executor.execute(() -> {
+                //호출 thread에서 drain을 실행하면 빈 queue를 기다리며 교착되므로 실행하지 않음
+                if (Thread.currentThread() == producer) {
+                    callerRuns = true;
+                    return;
+                }
+
+                drain();
+            });
+        }
+
+        if (executor == null || callerRuns) {
+            //동기 모드
+            this.queue = null;
+            finished.countDown();
+        }
+    }
+
+    public void add(T item) throws IOException {
+        batch.add(item);
+
+        if (batch.size() >= batchSize) {
+            dispatch(batch);
+            batch = new ArrayList<>(batchSize);
+        }
+    }
+
+    /**
+     * 남은 row 전달 후 consumer 처리가 끝날 때까지 대기
+     */
+    public void finish() throws IOException {
+        if (!batch.isEmpty()) {
+            dispatch(batch);
+            batch = new ArrayList<>(0);
+        }
+
+        if (queue != null) {
+            enqueue(end());
+            await();
+        }
+
+        rethrowFailure();
+    }
+
+    /**
+     * 파싱 실패시 대기중인 batch를 버리고 consumer 종료
+     * 처리 중인 batch가 끝나고 consumer thread가 종료될 때까지 대기 (interrupt 상태면 대기하지 않음)
+     */
+    public void abort() {
+        aborted = true;
+
+        if (queue != null) {
+            queue.clear();
+            queue.offer(end());
+
+            try {
+                finished.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    private void dispatch(List<T> items) throws IOException {
+        if (queue == null) {
+            consumer.accept(items);
+        } else {
+            enqueue(items);
+        }
+    }
+
+    private void enqueue(List<T> items) throws IOException {
+        try {
+            //consumer가 실패하면 더 이상 기다리지 않음
+            while (!queue.offer(items, 100, TimeUnit.MILLISECONDS)) {
+                rethrowFailure();
+            }
+
+            rethrowFailure();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            abort();
+            throw new InterruptedIOException("batch dispatch interrupted");
+        }
+    }
+
+    private void await() throws IOException {
+        try {
+            finished.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            abort();
+            throw new InterruptedIOException("batch dispatch interrupted");
+        }
+    }
+
+    private void drain() {
+        try {
+            while (true) {
+                List<T> items = queue.take();
+
+                if (items == END || aborted) break;
+
+                consumer.accept(items);
+            }
+        } catch (Throwable e) {
+            failure = e;
+            queue.clear();
+        } finally {
+            finished.countDown();
+        }
+    }
+
+    private void rethrowFailure() throws IOException {
+        Throwable e = failure;
+
+        if (e == null) return;
+
+        if (e instanceof RuntimeException runtimeException) throw runtimeException;
+        if (e instanceof Error error) throw error;
+
+        throw new IOException(e);
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<T> end() {
+        return (List<T>) END;
+    }
+
+}
@@ -0,0 +1,184 @@
+package org.excel.read;
+
+import org.apache.poi.ss.usermodel.CellType;
+import org.apache.poi.ss.usermodel.DateUtil;
+import org.apache.poi.util.LocaleUtil;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Arrays;
+import java.util.function.IntFunction;
+
+/**
+ * 이벤트 방식 reader가 채우는 재사용 row 버퍼
+ * 셀 객체를 만들지 않고 컬럼별 배열에 원시 값만 보관
+ */
+public class BufferedReadRow implements ReadRow {
+
+    //Cell.toString의 날짜 표현과 동일한 포맷
+    static final DateTimeFormatter TEXT_DATE_FORMAT = DateTimeFormatter.ofPattern("dd-MMM-yyyy", LocaleUtil.getUserLocale());
+
+    private final boolean date1904;
+
+    //shared strings index로 문자열 조회 (없으면 null)
+    private final IntFunction<String> sharedStrings;
+
+    private CellType[] types = new CellType[16];
+
+    private double[] numbers = new double[16];
+
+    private String[] strings = new String[16];
+
+    private boolean[] dates = new boolean[16];
+
+    private int lastCellNum = -1;
+
+    public BufferedReadRow(boolean date1904) {
+        this(date1904, null);
+    }
+
+    public BufferedReadRow(boolean date1904, IntFunction<String> sharedStrings) {
+        this.date1904 = date1904;
+        this.sharedStrings = sharedStrings;
+    }
+
+    private BufferedReadRow(BufferedReadRow source) {
+        int length = Math.max(source.lastCellNum, 0);
+
+        this.date1904 = source.date1904;
+        this.sharedStrings = source.sharedStrings;
+        this.types = Arrays.copyOf(source.types, length);
+        this.numbers = Arrays.copyOf(source.numbers, length);
+        this.strings = Arrays.copyOf(source.strings, length);
+        this.dates = Arrays.copyOf(source.dates, length);
+        this.lastCellNum = source.lastCellNum;
+    }
+
+    /**
+     * 다음 row를 위해 사용한 컬럼만 초기화
+     */
+    public void clear() {
+        if (lastCellNum > 0) {
+            Arrays.fill(types, 0, lastCellNum, null);
+            Arrays.fill(strings, 0, lastCellNum, null);
+        }
+
+        lastCellNum = -1;
+    }
+
+    public void setNumeric(int column, double value, boolean dateFormatted) {
+        ensure(column);
+        types[column] = CellType.NUMERIC;
+        numbers[column] = value;
+        dates[column] = dateFormatted;
+    }
+
+    public void setString(int column, String value) {
+        ensure(column);
+        types[column] = CellType.STRING;
+        strings[column] = value;
+    }
+
+    /**
+     * shared strings 셀은 index만 저장하고 문자열은 처음 조회할 때 생성 (읽지 않는 컬럼은 생성하지 않음)
+     */
+    public void setSharedString(int column, int index) {
+        ensure(column);
+        types[column] = CellType.STRING;
+        numbers[column] = index;
+    }
+
+    public void setBoolean(int column, boolean value) {
+        ensure(column);
+        types[column] = CellType.BOOLEAN;
+        numbers[column] = value ? 1 : 0;
+    }
+
+    public void setError(int column, String value) {
+        ensure(column);
+        types[column] = CellType.ERROR;
+        strings[column] = value;
+    }
+
+    public void setBlank(int column) {
+        ensure(column);
+        types[column] = CellType.BLANK;
+    }
+
+    private void ensure(int column) {
+        if (column >= types.length) {
+            int length = Math.max(types.length * 2, column + 1);
+
+            types = Arrays.copyOf(types, length);
+            numbers = Arrays.copyOf(numbers, length);
+            strings = Arrays.copyOf(strings, length);
+            dates = Arrays.copyOf(dates, length);
+        }
+
+        if (column >= lastCellNum) {
+            lastCellNum = column + 1;
+        }
+    }
+
+    @Override
+    public int getLastCellNum() {
+        return lastCellNum;
+    }
+
+    @Override
+    public CellType getCellType(int column) {
+        CellType type = column < lastCellNum ? types[column] : null;
+        return type == null ? CellType._NONE : type;
+    }
+
+    @Override
+    public double getNumericValue(int column) {
+        return numbers[column];
+    }
+
+    @Override
+    public String getStringValue(int column) {
+        String value = strings[column];
+
+        if (value == null && sharedStrings != null && types[column] == CellType.STRING) {
+            value = sharedStrings.apply((int) numbers[column]);
+            strings[column] = value;
+        }
+
+        return value;
+    }
+
+    @Override
+    public boolean getBooleanValue(int column) {
+        return numbers[column] != 0;
+    }
+
+    @Override
+    public boolean isDateFormatted(int column) {
+        return getCellType(column) == CellType.NUMERIC && dates[column] && DateUtil.isValidExcelDate(numbers[column]);
+    }
+
+    @Override
+    public LocalDateTime getDateValue(int column) {
+        return DateUtil.getLocalDateTime(numbers[column], date1904);
+    }
+
+    @Override
+    public ReadRow snapshot() {
+        return new BufferedReadRow(this);
+    }
+
+    @Override
+    public String getText(int column) {
+        return switch (getCellType(column)) {
+            case _NONE -> null;
+            case NUMERIC -> isDateFormatted(column)
+                    ? TEXT_DATE_FORMAT.format(getDateValue(column))
+                    : Double.toString(numbers[column]);
+            case BOOLEAN -> numbers[column] != 0 ? "TRUE" : "FALSE";
+            case BLANK -> "";
+            default -> getStringValue(column);
+        };
+    }
+
+}
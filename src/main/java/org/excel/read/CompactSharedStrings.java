@@ -0,0 +1,278 @@
+package org.excel.read;
+
+import org.apache.poi.openxml4j.opc.OPCPackage;
+import org.apache.poi.openxml4j.opc.PackagePart;
+import org.apache.poi.ss.usermodel.RichTextString;
+import org.apache.poi.util.XMLHelper;
+import org.apache.poi.xssf.model.SharedStrings;
+import org.apache.poi.xssf.usermodel.XSSFRelation;
+import org.apache.poi.xssf.usermodel.XSSFRichTextString;
+
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * xlsx shared strings를 UTF-8 bytes와 offset index로 보관하는 읽기 전용 SharedStrings
+ * 문자열 객체는 셀 값을 조회할 때만 생성 (RichTextString, String을 항목마다 유지하지 않음)
+ * 전체 크기가 spillSize를 넘으면 임시 파일로 옮겨 memory-map (heap 밖에 보관, 파일은 매핑 후 바로 삭제)
+ * ReadOnlySharedStringsTable과 같이 si의 모든 텍스트(윗주 포함)를 하나의 문자열로 저장
+ * 생성 후에는 변경되지 않으므로 여러 thread에서 동시에 조회 가능
+ * 조회가 모두 끝난 뒤 close로 보관 bytes, memory-map 해제
+ */
+public class CompactSharedStrings implements SharedStrings, Closeable {
+
+    //memory-map 단위
+    private static final int MAP_CHUNK = 1 << 30;
+
+    //heap 배열 최대 크기
+    private static final long MAX_ARRAY = Integer.MAX_VALUE - 8;
+
+    //문자열 시작 위치 (마지막 원소는 전체 크기)
+    private long[] offsets = new long[1024];
+
+    private int uniqueCount;
+
+    private int count;
+
+    //heap 보관 bytes (임시 파일 사용시 null)
+    private byte[] data = new byte[64 * 1024];
+
+    //임시 파일 memory-map (heap 보관시 null)
+    private MappedByteBuffer[] chunks;
+
+    private long size;
+
+    private FileChannel channel;
+
+    private final long spillLimit;
+
+    /**
+     * package의 shared strings part 로딩, spillSize가 음수면 항상 heap에 보관
+     */
+    public CompactSharedStrings(OPCPackage opcPackage, long spillSize) throws IOException {
+        this.spillLimit = spillSize < 0 ? MAX_ARRAY : Math.min(spillSize, MAX_ARRAY);
+
+        List<PackagePart> parts = opcPackage.getPartsByContentType(XSSFRelation.SHARED_STRINGS.getContentType());
+
+        try {
+            if (!parts.isEmpty()) {
+                try (InputStream inputStream = parts.get(0).getInputStream()) {
+                    parse(inputStream);
+                }
+            }
+
+            finish();
+        } catch (XMLStreamException e) {
+            closeChannel();
+            throw new IOException(e);
+        } catch (IOException | RuntimeException e) {
+            closeChannel();
+            throw e;
+        }
+    }
+
+    private void parse(InputStream inputStream) throws XMLStreamException, IOException {
+        XMLStreamReader xml = XMLHelper.newXMLInputFactory().createXMLStreamReader(inputStream);
+        StringBuilder text = new StringBuilder();
+
+        try {
+            while (xml.hasNext()) {
+                int event = xml.next();
+
+                if (event == XMLStreamConstants.START_ELEMENT) {
+                    String name = xml.getLocalName();
+
+                    if ("t".equals(name)) {
+                        text.append(xml.getElementText());
+                    } else if ("si".equals(name)) {
+                        text.setLength(0);
+                    } else if ("sst".equals(name)) {
+                        count = intAttribute(xml, "count");
+
+                        int expected = intAttribute(xml, "uniqueCount");
+                        if (expected > 0) offsets = new long[expected + 1];
+                    }
+                } else if (event == XMLStreamConstants.END_ELEMENT && "si".equals(xml.getLocalName())) {
+                    add(text);
+                }
+            }
+        } finally {
+            xml.close();
+        }
+    }
+
+    private static int intAttribute(XMLStreamReader xml, String name) {
+        String value = xml.getAttributeValue(null, name);
+
+        return value == null ? 0 : Integer.parseInt(value);
+    }
+
+    private void add(CharSequence text) throws IOException {
+        String value = text.toString();
+
+        //_xHHHH_ 이스케이프는 XSSFRichTextString에서 해제 (거의 없으므로 해당 문자열만)
+        if (value.contains("_x")) {
+            value = new XSSFRichTextString(value).getString();
+        }
+
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+
+        if (uniqueCount + 1 >= offsets.length) {
+            offsets = Arrays.copyOf(offsets, offsets.length * 2);
+        }
+
+        offsets[uniqueCount++] = size;
+
+        if (channel == null && size + bytes.length > spillLimit) {
+            spill();
+        }
+
+        if (channel != null) {
+            ByteBuffer buffer = ByteBuffer.wrap(bytes);
+
+            while (buffer.hasRemaining()) channel.write(buffer);
+        } else {
+            if (size + bytes.length > data.length) {
+                data = Arrays.copyOf(data, (int) Math.min(Math.max(data.length * 2L, size + bytes.length), MAX_ARRAY));
+            }
+
+            System.arraycopy(bytes, 0, data, (int) size, bytes.length);
+        }
+
+        size += bytes.length;
+    }
+
+    /**
+     * heap에 모은 bytes를 임시 파일로 옮기고 이후는 파일에 작성
+     */
+    private void spill() throws IOException {
+        Path tempFile = Files.createTempFile("excel-sst", ".tmp");
+
+        try {
+            channel = FileChannel.open(tempFile, StandardOpenOption.READ, StandardOpenOption.WRITE, StandardOpenOption.DELETE_ON_CLOSE);
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(tempFile);
+            throw e;
+        }
+
+        ByteBuffer buffer = ByteBuffer.wrap(data, 0, (int) size);
+
+        while (buffer.hasRemaining()) channel.write(buffer);
+
+        data = null;
+    }
+
+    private void finish() throws IOException {
+        offsets[uniqueCount] = size;
+
+        if (channel == null) {
+            //사용하지 않는 공간 정리
+            if (data.length - size > data.length / 8) data = Arrays.copyOf(data, (int) size);
+            return;
+        }
+
+        chunks = new MappedByteBuffer[(int) ((size + MAP_CHUNK - 1) / MAP_CHUNK)];
+
+        for (int i = 0; i < chunks.length; i++) {
+            long position = (long) i * MAP_CHUNK;
+
+            chunks[i] = channel.map(FileChannel.MapMode.READ_ONLY, position, Math.min(MAP_CHUNK, size - position));
+        }
+
+        //매핑은 channel을 닫아도 유지되며, 임시 파일은 channel close시 삭제 (매핑은 GC될 때 해제)
+        closeChannel();
+    }
+
+    private void closeChannel() throws IOException {
+        if (channel != null) {
+            channel.close();
+            channel = null;
+        }
+    }
+
+    /**
+     * index 번째 문자열 (조회할 때마다 새로 생성)
+     */
+    public String getString(int index) {
+        if (index < 0 || index >= uniqueCount) {
+            throw new IllegalStateException("Cannot get item at " + index + " with strings size: " + uniqueCount);
+        }
+
+        long start = offsets[index];
+        int length = (int) (offsets[index + 1] - start);
+
+        if (data != null) {
+            return new String(data, (int) start, length, StandardCharsets.UTF_8);
+        }
+
+        if (chunks == null) {
+            throw new IllegalStateException("Shared strings already closed");
+        }
+
+        byte[] bytes = new byte[length];
+
+        //memory-map 경계에 걸친 문자열은 나눠서 복사
+        for (int read = 0; read < length; ) {
+            long position = start + read;
+            MappedByteBuffer chunk = chunks[(int) (position / MAP_CHUNK)];
+            int offset = (int) (position % MAP_CHUNK);
+            int n = Math.min(length - read, chunk.capacity() - offset);
+
+            chunk.get(offset, bytes, read, n);
+            read += n;
+        }
+
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * channel을 닫고 보관 bytes, memory-map 참조 해제 (이후 조회 불가)
+     * 매핑 메모리는 JDK에 해제 API가 없으므로 참조가 GC될 때 반환됨
+     */
+    @Override
+    public void close() throws IOException {
+        data = null;
+        chunks = null;
+
+        closeChannel();
+    }
+
+    @Override
+    public RichTextString getItemAt(int idx) {
+        return new XSSFRichTextString(getString(idx));
+    }
+
+    @Override
+    public int getCount() {
+        return count;
+    }
+
+    @Override
+    public int getUniqueCount() {
+        return uniqueCount;
+    }
+
+    //저장된 UTF-8 bytes 크기
+    public long getSize() {
+        return size;
+    }
+
+    //임시 파일 memory-map 사용 여부
+    public boolean isMapped() {
+        return chunks != null;
+    }
+
+}
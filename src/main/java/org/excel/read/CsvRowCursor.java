@@ -0,0 +1,266 @@
+package org.excel.read;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * CSV / TSV를 byte 버퍼에서 바로 토큰화하는 cursor
+ * 필드 위치만 기록하고 값이 있는 필드만 문자열로 변환 (줄 단위 String, split 없음)
+ * 따옴표 안의 구분자, 줄바꿈, 이중 따옴표("") 지원
+ * row 번호는 줄(레코드) 기준이며 빈 줄은 반환하지 않음
+ */
+public class CsvRowCursor implements RowCursor {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    //필드 종류
+    private static final byte PLAIN = 0;
+    private static final byte QUOTED = 1;
+    private static final byte ESCAPED = 2;
+
+    private final ReadableByteChannel channel;
+
+    private final Charset charset;
+
+    private final byte delimiter;
+
+    private final byte quote;
+
+    private final BufferedReadRow row = new BufferedReadRow(false);
+
+    private byte[] buffer = new byte[BUFFER_SIZE];
+
+    private int position;
+
+    private int limit;
+
+    private boolean eof;
+
+    private int rowNum = -1;
+
+    //현재 row의 필드 위치
+    private int[] starts = new int[16];
+
+    private int[] ends = new int[16];
+
+    private byte[] kinds = new byte[16];
+
+    private int fieldCount;
+
+    public CsvRowCursor(ReadableByteChannel channel, Charset charset, char delimiter, char quote) {
+        this.channel = channel;
+        this.charset = charset;
+        this.delimiter = (byte) delimiter;
+        this.quote = (byte) quote;
+    }
+
+    @Override
+    public boolean next() throws IOException {
+        if (rowNum < 0) skipBom();
+
+        while (true) {
+            if (position >= limit && eof) return false;
+
+            int end = tokenize();
+
+            //row가 버퍼 끝에서 잘린 경우 더 읽고 처음부터 다시 토큰화
+            if (end < 0) {
+                fill();
+                continue;
+            }
+
+            position = end;
+            rowNum++;
+            fillRow();
+
+            //빈 줄은 xlsx의 없는 row와 같이 건너뜀
+            if (row.getLastCellNum() > 0) return true;
+        }
+    }
+
+    @Override
+    public int getRowNum() {
+        return rowNum;
+    }
+
+    @Override
+    public ReadRow getRow() {
+        return row;
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+
+    /**
+     * position부터 row 하나의 필드 위치 기록
+     * 반환값은 다음 row 시작 위치, 버퍼가 부족하면 -1
+     */
+    private int tokenize() {
+        int i = position;
+        fieldCount = 0;
+
+        while (true) {
+            int start;
+            int end;
+            byte kind = PLAIN;
+
+            if (i < limit && buffer[i] == quote) {
+                kind = QUOTED;
+                start = ++i;
+
+                while (true) {
+                    if (i >= limit) {
+                        if (!eof) return -1;
+
+                        //닫는 따옴표 없이 파일 종료
+                        break;
+                    }
+
+                    if (buffer[i] == quote) {
+                        if (i + 1 >= limit && !eof) return -1;
+
+                        if (i + 1 < limit && buffer[i + 1] == quote) {
+                            kind = ESCAPED;
+                            i += 2;
+                            continue;
+                        }
+
+                        break;
+                    }
+
+                    i++;
+                }
+
+                end = Math.min(i, limit);
+
+                //닫는 따옴표 이후 구분자 전까지의 문자는 무시
+                i = skipToSeparator(Math.min(i + 1, limit));
+            } else {
+                start = i;
+                i = skipToSeparator(i);
+                end = i;
+            }
+
+            if (i >= limit && !eof) return -1;
+
+            addField(start, end, kind);
+
+            //마지막 row에 줄바꿈이 없는 경우
+            if (i >= limit) return limit;
+
+            byte b = buffer[i];
+
+            if (b == delimiter) {
+                i++;
+                continue;
+            }
+
+            if (b == '\r') {
+                if (i + 1 >= limit && !eof) return -1;
+
+                return i + 1 < limit && buffer[i + 1] == '\n' ? i + 2 : i + 1;
+            }
+
+            return i + 1;
+        }
+    }
+
+    private int skipToSeparator(int i) {
+        while (i < limit) {
+            byte b = buffer[i];
+
+            if (b == delimiter || b == '\n' || b == '\r') break;
+
+            i++;
+        }
+
+        return i;
+    }
+
+    private void addField(int start, int end, byte kind) {
+        if (fieldCount == starts.length) {
+            int length = fieldCount * 2;
+
+            starts = Arrays.copyOf(starts, length);
+            ends = Arrays.copyOf(ends, length);
+            kinds = Arrays.copyOf(kinds, length);
+        }
+
+        starts[fieldCount] = start;
+        ends[fieldCount] = end;
+        kinds[fieldCount] = kind;
+        fieldCount++;
+    }
+
+    /**
+     * 필드를 row 버퍼에 기록, 따옴표 없는 빈 필드는 셀 없음으로 처리
+     */
+    private void fillRow() {
+        row.clear();
+
+        for (int i = 0; i < fieldCount; i++) {
+            int start = starts[i];
+            int length = ends[i] - start;
+
+            if (kinds[i] == PLAIN && length == 0) continue;
+
+            row.setString(i, kinds[i] == ESCAPED
+                    ? unescape(start, ends[i])
+                    : new String(buffer, start, length, charset));
+        }
+    }
+
+    //"" -> "
+    private String unescape(int start, int end) {
+        byte[] bytes = new byte[end - start];
+        int length = 0;
+
+        for (int i = start; i < end; i++) {
+            bytes[length++] = buffer[i];
+
+            if (buffer[i] == quote && i + 1 < end && buffer[i + 1] == quote) i++;
+        }
+
+        return new String(bytes, 0, length, charset);
+    }
+
+    /**
+     * 읽은 부분을 버리고 남은 데이터를 앞으로 이동 후 채널에서 추가로 읽음
+     */
+    private void fill() throws IOException {
+        if (position > 0) {
+            System.arraycopy(buffer, position, buffer, 0, limit - position);
+            limit -= position;
+            position = 0;
+        }
+
+        //row 하나가 버퍼보다 큰 경우
+        if (limit == buffer.length) {
+            buffer = Arrays.copyOf(buffer, buffer.length * 2);
+        }
+
+        int read = channel.read(ByteBuffer.wrap(buffer, limit, buffer.length - limit));
+
+        if (read < 0) {
+            eof = true;
+        } else {
+            limit += read;
+        }
+    }
+
+    private void skipBom() throws IOException {
+        while (limit < 3 && !eof) fill();
+
+        if (StandardCharsets.UTF_8.equals(charset) && limit >= 3
+                && buffer[0] == (byte) 0xEF && buffer[1] == (byte) 0xBB && buffer[2] == (byte) 0xBF) {
+            position = 3;
+        }
+    }
+
+}
@@ -0,0 +1,122 @@
+package org.excel.read;
+
+import org.excel.option.CsvFormat;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * CSV / TSV 파일 SheetSource
+ * 파일 하나가 0번 시트이며, 다른 시트 번호는 빈 시트로 처리
+ * cursor마다 파일 채널을 새로 열기 때문에 여러 thread에서 동시에 사용 가능
+ */
+public class CsvSheetSource implements SheetSource {
+
+    private final File file;
+
+    private final boolean deleteOnClose;
+
+    private final CsvFormat format;
+
+    //파일에 저장된 charset
+    private final Charset charset;
+
+    public CsvSheetSource(File file, CsvFormat format, boolean deleteOnClose) {
+        this(file, format, format.getCharset(), deleteOnClose);
+    }
+
+    private CsvSheetSource(File file, CsvFormat format, Charset charset, boolean deleteOnClose) {
+        format.validate();
+
+        this.file = file;
+        this.format = format;
+        this.charset = charset;
+        this.deleteOnClose = deleteOnClose;
+    }
+
+    /**
+     * 입력을 임시 파일로 저장 후 source 생성 (임시 파일은 close시 삭제)
+     * UTF-16 등 byte 단위 파싱이 불가능한 charset은 저장하면서 UTF-8로 변환
+     */
+    public static CsvSheetSource spool(InputStream inputStream, CsvFormat format) throws IOException {
+        format.validate();
+
+        File tempFile = Files.createTempFile("excel-read", ".csv").toFile();
+
+        try {
+            if (format.isAsciiCompatible()) {
+                Files.copy(inputStream, tempFile.toPath(), StandardCopyOption.REPLACE_EXISTING);
+
+                return new CsvSheetSource(tempFile, format, true);
+            }
+
+            try (Reader reader = new InputStreamReader(inputStream, format.getCharset());
+                 Writer writer = new OutputStreamWriter(Files.newOutputStream(tempFile.toPath()), StandardCharsets.UTF_8)) {
+                reader.transferTo(writer);
+            }
+
+            return new CsvSheetSource(tempFile, format, StandardCharsets.UTF_8, true);
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(tempFile.toPath());
+            throw e;
+        }
+    }
+
+    @Override
+    public RowCursor openSheet(int sheetNum) throws IOException {
+        if (sheetNum != 0) return EMPTY;
+
+        return new CsvRowCursor(FileChannel.open(file.toPath(), StandardOpenOption.READ), charset, format.getDelimiter(), format.getQuote());
+    }
+
+    //CSV는 시트가 하나이므로 이름과 관계없이 0번 시트
+    @Override
+    public int getSheetIndex(String sheetName) {
+        return 0;
+    }
+
+    @Override
+    public boolean isConcurrent() {
+        return true;
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (deleteOnClose) {
+            Files.deleteIfExists(file.toPath());
+        }
+    }
+
+    private static final RowCursor EMPTY = new RowCursor() {
+        @Override
+        public boolean next() {
+            return false;
+        }
+
+        @Override
+        public int getRowNum() {
+            return -1;
+        }
+
+        @Override
+        public ReadRow getRow() {
+            return null;
+        }
+
+        @Override
+        public void close() {
+        }
+    };
+
+}
@@ -0,0 +1,102 @@
+package org.excel.read;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * 시트의 row를 필요할 때마다 한 개씩 DTO로 변환하는 iterator
+ * 끝까지 읽으면 자동으로 닫히며, 중간에 멈출 경우 close 호출 필요
+ */
+public class ExcelRowIterator<T> implements Iterator<T>, Closeable {
+
+    private final RowCursor cursor;
+
+    //cursor와 함께 닫을 자원 (workbook, 임시 파일 등)
+    private final Closeable resource;
+
+    private final RowMapper<T> mapper;
+
+    //끝까지 읽은 뒤 close 전에 실행 (검증 오류 확인 등, 없으면 null)
+    private final Runnable onComplete;
+
+    private T next;
+
+    private boolean closed;
+
+    public ExcelRowIterator(RowCursor cursor, Closeable resource, RowMapper<T> mapper) {
+        this(cursor, resource, mapper, null);
+    }
+
+    public ExcelRowIterator(RowCursor cursor, Closeable resource, RowMapper<T> mapper, Runnable onComplete) {
+        this.cursor = cursor;
+        this.resource = resource;
+        this.mapper = mapper;
+        this.onComplete = onComplete;
+    }
+
+    @Override
+    public boolean hasNext() {
+        try {
+            while (next == null && !closed) {
+                if (!cursor.next()) {
+                    try {
+                        if (onComplete != null) onComplete.run();
+                    } finally {
+                        close();
+                    }
+                    break;
+                }
+
+                next = mapper.map(cursor.getRowNum(), cursor.getRow());
+            }
+        } catch (IOException e) {
+            closeQuietly();
+            throw new UncheckedIOException(e);
+        } catch (RuntimeException e) {
+            closeQuietly();
+            throw e;
+        } catch (Exception e) {
+            closeQuietly();
+            throw new IllegalStateException(e);
+        }
+
+        return next != null;
+    }
+
+    @Override
+    public T next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+
+        T result = next;
+        next = null;
+
+        return result;
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (closed) return;
+
+        closed = true;
+
+        try {
+            cursor.close();
+        } finally {
+            if (resource != null) resource.close();
+        }
+    }
+
+    private void closeQuietly() {
+        try {
+            close();
+        } catch (IOException ignored) {
+            //원래 예외를 우선
+        }
+    }
+
+}
@@ -0,0 +1,214 @@
+package org.excel.read;
+
+import org.apache.poi.hssf.eventusermodel.FormatTrackingHSSFListener;
+import org.apache.poi.hssf.record.*;
+import org.apache.poi.hssf.record.Record;
+import org.apache.poi.poifs.filesystem.POIFSFileSystem;
+import org.apache.poi.ss.usermodel.DateUtil;
+import org.apache.poi.ss.usermodel.FormulaError;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * xls 레코드 스트림에서 시트 하나의 row를 순서대로 읽는 cursor
+ * 전역 영역의 SST(공유 문자열), 서식, 1904 날짜 여부만 유지하고 셀 레코드는 row 단위로 버퍼에 기록
+ * 셀 레코드는 row 순서로 저장되므로 row 번호가 바뀌는 레코드를 다음 row의 시작으로 사용
+ */
+public class HssfRowCursor implements RowCursor {
+
+    private final POIFSFileSystem fileSystem;
+
+    private final InputStream inputStream;
+
+    private final RecordFactoryInputStream records;
+
+    //서식 레코드 추적 (날짜 서식 판단용)
+    private final FormatTrackingHSSFListener formats = new FormatTrackingHSSFListener(record -> {
+    });
+
+    private final BufferedReadRow row;
+
+    private SSTRecord sst;
+
+    //다음 row의 첫 번째 셀 레코드
+    private Record pending;
+
+    //BOF/EOF 중첩 깊이 (시트 안의 차트 등)
+    private int depth;
+
+    private boolean finished;
+
+    private int rowNum = -1;
+
+    //문자열 결과 수식 다음의 String 레코드가 기록될 컬럼
+    private int formulaStringColumn = -1;
+
+    HssfRowCursor(POIFSFileSystem fileSystem, InputStream inputStream, int sheetNum) throws IOException {
+        this.fileSystem = fileSystem;
+        this.inputStream = inputStream;
+        this.records = new RecordFactoryInputStream(inputStream, true);
+        this.row = new BufferedReadRow(readGlobals(sheetNum));
+    }
+
+    @Override
+    public boolean next() {
+        row.clear();
+
+        int current = -1;
+
+        if (pending != null) {
+            current = cellRow(pending);
+            apply(pending);
+            pending = null;
+        }
+
+        while (!finished) {
+            Record record = records.nextRecord();
+
+            if (record == null) {
+                finished = true;
+                break;
+            }
+
+            if (record instanceof BOFRecord) {
+                depth++;
+                continue;
+            }
+
+            if (record instanceof EOFRecord) {
+                //시트 끝
+                if (--depth == 0) finished = true;
+                continue;
+            }
+
+            if (depth != 1) continue;
+
+            if (record instanceof StringRecord stringRecord) {
+                if (formulaStringColumn >= 0) row.setString(formulaStringColumn, stringRecord.getString());
+                formulaStringColumn = -1;
+                continue;
+            }
+
+            int cellRow = cellRow(record);
+
+            if (cellRow < 0) {
+                formats.processRecordInternally(record);
+                continue;
+            }
+
+            if (current < 0) {
+                current = cellRow;
+            } else if (cellRow != current) {
+                pending = record;
+                break;
+            }
+
+            apply(record);
+        }
+
+        if (current < 0) return false;
+
+        rowNum = current;
+        return true;
+    }
+
+    @Override
+    public int getRowNum() {
+        return rowNum;
+    }
+
+    @Override
+    public ReadRow getRow() {
+        return row;
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            inputStream.close();
+        } finally {
+            fileSystem.close();
+        }
+    }
+
+    /**
+     * 대상 시트의 BOF까지 전역 레코드 처리, 1904 날짜 여부 반환
+     */
+    private boolean readGlobals(int sheetNum) {
+        boolean date1904 = false;
+        int sheetIndex = 0;
+
+        Record record;
+        while ((record = records.nextRecord()) != null) {
+            if (record instanceof BOFRecord bof) {
+                //최상위 시트 BOF만 시트 순서로 계산
+                if (depth++ == 0 && bof.getType() != BOFRecord.TYPE_WORKBOOK && sheetIndex++ == sheetNum) {
+                    return date1904;
+                }
+            } else if (record instanceof EOFRecord) {
+                depth--;
+            } else if (record instanceof SSTRecord sstRecord) {
+                sst = sstRecord;
+            } else if (record instanceof DateWindow1904Record dateWindow) {
+                date1904 = dateWindow.getWindowing() == 1;
+            } else {
+                formats.processRecordInternally(record);
+            }
+        }
+
+        throw new IllegalArgumentException("Sheet index (" + sheetNum + ") is out of range");
+    }
+
+    //셀 레코드의 row 번호, 셀 레코드가 아니면 -1
+    private static int cellRow(Record record) {
+        if (record instanceof CellValueRecordInterface cell) return cell.getRow();
+        if (record instanceof MulBlankRecord mulBlank) return mulBlank.getRow();
+        return -1;
+    }
+
+    private void apply(Record record) {
+        if (record instanceof MulBlankRecord mulBlank) {
+            for (int column = mulBlank.getFirstColumn(); column <= mulBlank.getLastColumn(); column++) {
+                row.setBlank(column);
+            }
+            return;
+        }
+
+        CellValueRecordInterface cell = (CellValueRecordInterface) record;
+        int column = cell.getColumn();
+
+        if (record instanceof NumberRecord number) {
+            row.setNumeric(column, number.getValue(), isDate(cell));
+        } else if (record instanceof LabelSSTRecord label) {
+            row.setString(column, sst.getString(label.getSSTIndex()).getString());
+        } else if (record instanceof LabelRecord label) {
+            row.setString(column, label.getValue());
+        } else if (record instanceof BoolErrRecord boolErr) {
+            if (boolErr.isBoolean()) {
+                row.setBoolean(column, boolErr.getBooleanValue());
+            } else {
+                row.setError(column, FormulaError.forInt(boolErr.getErrorValue()).getString());
+            }
+        } else if (record instanceof FormulaRecord formula) {
+            //수식은 저장된 결과 값으로 처리
+            switch (formula.getCachedResultTypeEnum()) {
+                case NUMERIC -> row.setNumeric(column, formula.getValue(), isDate(cell));
+                case STRING -> {
+                    row.setString(column, "");
+                    if (formula.hasCachedResultString()) formulaStringColumn = column;
+                }
+                case BOOLEAN -> row.setBoolean(column, formula.getCachedBooleanValue());
+                case ERROR -> row.setError(column, FormulaError.forInt(formula.getCachedErrorValue()).getString());
+                default -> row.setBlank(column);
+            }
+        } else if (record instanceof BlankRecord) {
+            row.setBlank(column);
+        }
+    }
+
+    private boolean isDate(CellValueRecordInterface cell) {
+        return DateUtil.isADateFormat(formats.getFormatIndex(cell), formats.getFormatString(cell));
+    }
+
+}
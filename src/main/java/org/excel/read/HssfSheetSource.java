@@ -0,0 +1,111 @@
+package org.excel.read;
+
+import org.apache.poi.hssf.record.BOFRecord;
+import org.apache.poi.hssf.record.BoundSheetRecord;
+import org.apache.poi.hssf.record.EOFRecord;
+import org.apache.poi.hssf.record.Record;
+import org.apache.poi.hssf.record.RecordFactoryInputStream;
+import org.apache.poi.hssf.usermodel.HSSFWorkbook;
+import org.apache.poi.poifs.filesystem.POIFSFileSystem;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * xls(BIFF8) 레코드 스트림 기반 SheetSource
+ * HSSFWorkbook을 만들지 않고 시트별로 레코드를 순서대로 읽으므로 row 수와 관계없이 메모리 사용량 고정
+ * cursor마다 파일을 새로 열기 때문에 여러 thread에서 동시에 사용 가능
+ */
+public class HssfSheetSource implements SheetSource {
+
+    private final File file;
+
+    private final boolean deleteOnClose;
+
+    private final List<String> sheetNames = new ArrayList<>();
+
+    public HssfSheetSource(File file, boolean deleteOnClose) throws IOException {
+        this.file = file;
+        this.deleteOnClose = deleteOnClose;
+
+        try {
+            readSheetNames();
+        } catch (IOException | RuntimeException e) {
+            close();
+            throw e;
+        }
+    }
+
+    @Override
+    public RowCursor openSheet(int sheetNum) throws IOException {
+        if (sheetNum < 0 || sheetNum >= sheetNames.size()) {
+            throw new IllegalArgumentException("Sheet index (" + sheetNum + ") is out of range (0.." + (sheetNames.size() - 1) + ")");
+        }
+
+        POIFSFileSystem fileSystem = new POIFSFileSystem(file, true);
+
+        try {
+            return new HssfRowCursor(fileSystem, openWorkbookStream(fileSystem), sheetNum);
+        } catch (IOException | RuntimeException e) {
+            fileSystem.close();
+            throw e;
+        }
+    }
+
+    @Override
+    public boolean isConcurrent() {
+        return true;
+    }
+
+    //엑셀 시트 이름은 대소문자 구분 없음
+    @Override
+    public int getSheetIndex(String sheetName) {
+        for (int i = 0; i < sheetNames.size(); i++) {
+            if (sheetNames.get(i).equalsIgnoreCase(sheetName)) return i;
+        }
+
+        return -1;
+    }
+
+    public List<String> getSheetNames() {
+        return sheetNames;
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (deleteOnClose) {
+            Files.deleteIfExists(file.toPath());
+        }
+    }
+
+    static InputStream openWorkbookStream(POIFSFileSystem fileSystem) throws IOException {
+        return fileSystem.createDocumentInputStream(HSSFWorkbook.getWorkbookDirEntryName(fileSystem.getRoot()));
+    }
+
+    /**
+     * workbook 전역 영역의 BoundSheet 레코드로 시트 이름 조회
+     */
+    private void readSheetNames() throws IOException {
+        try (POIFSFileSystem fileSystem = new POIFSFileSystem(file, true);
+             InputStream inputStream = openWorkbookStream(fileSystem)) {
+            RecordFactoryInputStream records = new RecordFactoryInputStream(inputStream, true);
+
+            Record record;
+            while ((record = records.nextRecord()) != null) {
+                if (record instanceof BoundSheetRecord boundSheet) {
+                    sheetNames.add(boundSheet.getSheetname());
+                } else if (record instanceof EOFRecord) {
+                    //전역 영역 끝
+                    break;
+                } else if (record instanceof BOFRecord bof && bof.getType() != BOFRecord.TYPE_WORKBOOK) {
+                    break;
+                }
+            }
+        }
+    }
+
+}
@@ -0,0 +1,125 @@
+package org.excel.read;
+
+import org.apache.poi.ss.usermodel.Cell;
+import org.apache.poi.ss.usermodel.CellType;
+import org.apache.poi.ss.usermodel.Date1904Support;
+import org.apache.poi.ss.usermodel.DateUtil;
+import org.apache.poi.ss.usermodel.FormulaError;
+import org.apache.poi.ss.usermodel.Row;
+
+import java.time.LocalDateTime;
+
+/**
+ * POI usermodel Row 를 감싸는 ReadRow
+ */
+public class PoiReadRow implements ReadRow {
+
+    private Row row;
+
+    public PoiReadRow() {
+    }
+
+    public PoiReadRow(Row row) {
+        this.row = row;
+    }
+
+    public void setRow(Row row) {
+        this.row = row;
+    }
+
+    @Override
+    public int getLastCellNum() {
+        return row == null ? -1 : row.getLastCellNum();
+    }
+
+    /**
+     * 수식 셀은 캐시된 결과 타입 반환 (스트리밍 엔진과 동일)
+     */
+    @Override
+    public CellType getCellType(int column) {
+        Cell cell = cell(column);
+
+        if (cell == null) return CellType._NONE;
+
+        return cell.getCellType() == CellType.FORMULA ? cell.getCachedFormulaResultType() : cell.getCellType();
+    }
+
+    @Override
+    public double getNumericValue(int column) {
+        return cell(column).getNumericCellValue();
+    }
+
+    @Override
+    public String getStringValue(int column) {
+        return cell(column).getStringCellValue();
+    }
+
+    @Override
+    public boolean getBooleanValue(int column) {
+        return cell(column).getBooleanCellValue();
+    }
+
+    @Override
+    public boolean isDateFormatted(int column) {
+        Cell cell = cell(column);
+        return getCellType(column) == CellType.NUMERIC && DateUtil.isCellDateFormatted(cell);
+    }
+
+    @Override
+    public LocalDateTime getDateValue(int column) {
+        return cell(column).getLocalDateTimeCellValue();
+    }
+
+    /**
+     * 수식 셀은 수식 대신 캐시된 결과 문자열 (스트리밍 엔진과 동일)
+     */
+    @Override
+    public String getText(int column) {
+        Cell cell = cell(column);
+
+        if (cell == null) return null;
+        if (cell.getCellType() != CellType.FORMULA) return cell.toString();
+
+        return switch (cell.getCachedFormulaResultType()) {
+            case NUMERIC -> isDateFormatted(column)
+                    ? BufferedReadRow.TEXT_DATE_FORMAT.format(cell.getLocalDateTimeCellValue())
+                    : Double.toString(cell.getNumericCellValue());
+            case STRING -> cell.getStringCellValue();
+            case BOOLEAN -> cell.getBooleanCellValue() ? "TRUE" : "FALSE";
+            case ERROR -> errorText(cell);
+            default -> "";
+        };
+    }
+
+    /**
+     * 셀 타입과 값을 BufferedReadRow로 복사 (usermodel workbook은 thread-safe하지 않으므로 현재 thread에서 모두 읽음)
+     */
+    @Override
+    public ReadRow snapshot() {
+        BufferedReadRow copy = new BufferedReadRow(row != null
+                && row.getSheet().getWorkbook() instanceof Date1904Support workbook && workbook.isDate1904());
+
+        for (int column = 0; column < getLastCellNum(); column++) {
+            switch (getCellType(column)) {
+                case NUMERIC -> copy.setNumeric(column, getNumericValue(column), isDateFormatted(column));
+                case STRING -> copy.setString(column, getStringValue(column));
+                case BOOLEAN -> copy.setBoolean(column, getBooleanValue(column));
+                case ERROR -> copy.setError(column, errorText(cell(column)));
+                case BLANK -> copy.setBlank(column);
+                default -> {
+                }
+            }
+        }
+
+        return copy;
+    }
+
+    private static String errorText(Cell cell) {
+        return FormulaError.forInt(cell.getErrorCellValue()).getString();
+    }
+
+    private Cell cell(int column) {
+        return row == null ? null : row.getCell(column);
+    }
+
+}
@@ -0,0 +1,67 @@
+package org.excel.read;
+
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.ss.usermodel.Workbook;
+
+import java.io.IOException;
+import java.util.Iterator;
+
+/**
+ * WorkbookFactory로 전체를 로딩한 usermodel workbook 기반 SheetSource
+ */
+public class PoiSheetSource implements SheetSource {
+
+    private final Workbook workbook;
+
+    public PoiSheetSource(Workbook workbook) {
+        this.workbook = workbook;
+    }
+
+    @Override
+    public RowCursor openSheet(int sheetNum) {
+        Sheet sheet = workbook.getSheetAt(sheetNum);
+        Iterator<Row> iterator = sheet.rowIterator();
+        PoiReadRow readRow = new PoiReadRow();
+
+        return new RowCursor() {
+            private int rowNum = -1;
+
+            @Override
+            public boolean next() {
+                if (!iterator.hasNext()) return false;
+
+                Row row = iterator.next();
+                rowNum = row.getRowNum();
+                readRow.setRow(row);
+
+                return true;
+            }
+
+            @Override
+            public int getRowNum() {
+                return rowNum;
+            }
+
+            @Override
+            public ReadRow getRow() {
+                return readRow;
+            }
+
+            @Override
+            public void close() {
+            }
+        };
+    }
+
+    @Override
+    public int getSheetIndex(String sheetName) {
+        return workbook.getSheetIndex(sheetName);
+    }
+
+    @Override
+    public void close() throws IOException {
+        workbook.close();
+    }
+
+}
@@ -0,0 +1,35 @@
+package org.excel.read;
+
+import org.apache.poi.ss.usermodel.CellType;
+
+import java.time.LocalDateTime;
+
+/**
+ * 읽기 엔진과 관계없이 row 하나의 셀 값을 조회하는 view
+ * 셀이 없으면 CellType._NONE 반환
+ */
+public interface ReadRow {
+
+    //마지막 셀 번호 + 1 (셀이 없으면 -1, POI Row.getLastCellNum과 동일)
+    int getLastCellNum();
+
+    CellType getCellType(int column);
+
+    double getNumericValue(int column);
+
+    String getStringValue(int column);
+
+    boolean getBooleanValue(int column);
+
+    //날짜 서식이 적용된 숫자 셀 여부
+    boolean isDateFormatted(int column);
+
+    LocalDateTime getDateValue(int column);
+
+    //Cell.toString과 동일한 문자열
+    String getText(int column);
+
+    //다른 thread에서 사용할 수 있는 현재 row 복사본 (cursor 이동과 무관)
+    ReadRow snapshot();
+
+}
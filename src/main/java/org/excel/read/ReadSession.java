@@ -0,0 +1,66 @@
+package org.excel.read;
+
+import org.excel.validation.ReadErrors;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 파일 한 번 읽기의 상태
+ * 다른 시트를 참조하는 collection 필드의 결과를 시트당 한 번만 읽어 모든 row에서 공유
+ */
+public class ReadSession implements Closeable {
+
+    private final SheetSource source;
+
+    //참조 시트 결과 및 join index
+    private final Map<Object, Object> nested = new ConcurrentHashMap<>();
+
+    //검증 오류 (검증 미사용시 null)
+    private final ReadErrors errors;
+
+    public ReadSession(SheetSource source) {
+        this(source, null);
+    }
+
+    public ReadSession(SheetSource source, ReadErrors errors) {
+        this.source = source;
+        this.errors = errors;
+    }
+
+    public SheetSource getSource() {
+        return source;
+    }
+
+    public ReadErrors getErrors() {
+        return errors;
+    }
+
+    /**
+     * 읽기 완료 후 검증 오류가 있으면 ExcelValidationException
+     */
+    public void checkErrors() {
+        if (errors != null) errors.throwIfAny();
+    }
+
+    public Object getNested(Object key) {
+        return nested.get(key);
+    }
+
+    /**
+     * 여러 thread에서 같은 시트를 동시에 읽은 경우 먼저 저장된 결과 사용
+     */
+    public Object putNested(Object key, Object value) {
+        Object previous = nested.putIfAbsent(key, value);
+
+        return previous != null ? previous : value;
+    }
+
+    @Override
+    public void close() throws IOException {
+        source.close();
+    }
+
+}
@@ -0,0 +1,19 @@
+package org.excel.read;
+
+import java.io.Closeable;
+import java.io.IOException;
+
+/**
+ * 시트의 row를 순서대로 한 개씩 읽는 cursor
+ * 실제 존재하는 row만 반환하며, getRow는 next 호출 전까지만 유효
+ */
+public interface RowCursor extends Closeable {
+
+    boolean next() throws IOException;
+
+    //현재 row 번호 (첫 번째 row 0)
+    int getRowNum();
+
+    ReadRow getRow();
+
+}
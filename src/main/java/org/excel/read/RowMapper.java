@@ -0,0 +1,11 @@
+package org.excel.read;
+
+/**
+ * row 하나를 DTO로 변환, 건너뛸 row는 null 반환
+ */
+@FunctionalInterface
+public interface RowMapper<T> {
+
+    T map(int rowNum, ReadRow row) throws Exception;
+
+}
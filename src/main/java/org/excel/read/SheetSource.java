@@ -0,0 +1,21 @@
+package org.excel.read;
+
+import java.io.Closeable;
+import java.io.IOException;
+
+/**
+ * 시트 번호로 row cursor를 여는 workbook 추상화
+ */
+public interface SheetSource extends Closeable {
+
+    RowCursor openSheet(int sheetNum) throws IOException;
+
+    //시트 이름으로 번호 조회, 없으면 -1
+    int getSheetIndex(String sheetName);
+
+    //여러 thread에서 동시에 openSheet 및 cursor 사용 가능 여부
+    default boolean isConcurrent() {
+        return false;
+    }
+
+}
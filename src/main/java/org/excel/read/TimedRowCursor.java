@@ -0,0 +1,48 @@
+package org.excel.read;
+
+import java.io.IOException;
+
+/**
+ * next(row 파싱)에 걸린 시간을 누적하는 cursor (metrics 사용시에만 사용)
+ */
+public class TimedRowCursor implements RowCursor {
+
+    private final RowCursor cursor;
+
+    private long nanos;
+
+    public TimedRowCursor(RowCursor cursor) {
+        this.cursor = cursor;
+    }
+
+    @Override
+    public boolean next() throws IOException {
+        long start = System.nanoTime();
+
+        try {
+            return cursor.next();
+        } finally {
+            nanos += System.nanoTime() - start;
+        }
+    }
+
+    @Override
+    public int getRowNum() {
+        return cursor.getRowNum();
+    }
+
+    @Override
+    public ReadRow getRow() {
+        return cursor.getRow();
+    }
+
+    @Override
+    public void close() throws IOException {
+        cursor.close();
+    }
+
+    public long getNanos() {
+        return nanos;
+    }
+
+}
@@ -0,0 +1,184 @@
+package org.excel.read;
+
+import org.apache.poi.util.XMLHelper;
+import org.apache.poi.xssf.model.SharedStrings;
+
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.function.IntFunction;
+
+/**
+ * 시트 XML(sheetN.xml)을 StAX로 한 row씩 파싱하는 cursor
+ * 메모리에는 현재 row 하나만 유지
+ */
+public class XlsxRowCursor implements RowCursor {
+
+    private final InputStream inputStream;
+
+    private final XMLStreamReader xml;
+
+    private final boolean[] dateStyles;
+
+    private final BufferedReadRow row;
+
+    private final StringBuilder text = new StringBuilder();
+
+    private int rowNum = -1;
+
+    public XlsxRowCursor(InputStream inputStream, SharedStrings sharedStrings, boolean[] dateStyles, boolean date1904) throws XMLStreamException {
+        this.inputStream = inputStream;
+        this.xml = XMLHelper.newXMLInputFactory().createXMLStreamReader(inputStream);
+        this.dateStyles = dateStyles;
+
+        //shared strings 문자열은 셀 값을 조회할 때 생성
+        this.row = new BufferedReadRow(date1904, stringLookup(sharedStrings));
+    }
+
+    private static IntFunction<String> stringLookup(SharedStrings sharedStrings) {
+        if (sharedStrings instanceof CompactSharedStrings compactSharedStrings) {
+            return compactSharedStrings::getString;
+        }
+
+        return index -> sharedStrings.getItemAt(index).getString();
+    }
+
+    @Override
+    public boolean next() throws IOException {
+        try {
+            while (xml.hasNext()) {
+                if (xml.next() == XMLStreamConstants.START_ELEMENT && "row".equals(xml.getLocalName())) {
+                    //r 속성이 없으면 이전 row 다음 번호
+                    String r = xml.getAttributeValue(null, "r");
+                    rowNum = r != null ? Integer.parseInt(r) - 1 : rowNum + 1;
+
+                    readCells();
+                    return true;
+                }
+            }
+
+            return false;
+        } catch (XMLStreamException e) {
+            throw new IOException(e);
+        }
+    }
+
+    /**
+     * row 종료 태그까지 셀 파싱
+     */
+    private void readCells() throws XMLStreamException {
+        row.clear();
+
+        int column = -1;
+
+        while (xml.hasNext()) {
+            int event = xml.next();
+
+            if (event == XMLStreamConstants.START_ELEMENT && "c".equals(xml.getLocalName())) {
+                String ref = xml.getAttributeValue(null, "r");
+                column = ref != null ? columnIndex(ref) : column + 1;
+
+                readCell(column, xml.getAttributeValue(null, "t"), xml.getAttributeValue(null, "s"));
+            } else if (event == XMLStreamConstants.END_ELEMENT && "row".equals(xml.getLocalName())) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * 셀 종료 태그까지 값 파싱 후 타입에 맞게 row 버퍼에 저장
+     */
+    private void readCell(int column, String type, String style) throws XMLStreamException {
+        text.setLength(0);
+
+        boolean hasValue = false;
+        //인라인 문자열의 윗주(rPh)는 제외
+        boolean inPhonetic = false;
+
+        while (xml.hasNext()) {
+            int event = xml.next();
+
+            if (event == XMLStreamConstants.START_ELEMENT) {
+                String name = xml.getLocalName();
+
+                if ("rPh".equals(name)) {
+                    inPhonetic = true;
+                } else if (!inPhonetic && ("v".equals(name) || "t".equals(name))) {
+                    hasValue = true;
+                    text.append(xml.getElementText());
+                }
+            } else if (event == XMLStreamConstants.END_ELEMENT) {
+                String name = xml.getLocalName();
+
+                if ("rPh".equals(name)) {
+                    inPhonetic = false;
+                } else if ("c".equals(name)) {
+                    break;
+                }
+            }
+        }
+
+        if (!hasValue) {
+            row.setBlank(column);
+            return;
+        }
+
+        String value = text.toString();
+
+        if (type == null || "n".equals(type)) {
+            int styleIndex = style != null ? Integer.parseInt(style) : 0;
+            boolean dateFormatted = styleIndex < dateStyles.length && dateStyles[styleIndex];
+
+            row.setNumeric(column, Double.parseDouble(value), dateFormatted);
+        } else {
+            switch (type) {
+                case "s" -> row.setSharedString(column, Integer.parseInt(value));
+                case "b" -> row.setBoolean(column, "1".equals(value) || "true".equalsIgnoreCase(value));
+                case "e" -> row.setError(column, value);
+                //str(수식 문자열), inlineStr, d(ISO 날짜 문자열)
+                default -> row.setString(column, value);
+            }
+        }
+    }
+
+    /**
+     * 셀 참조(A1)의 컬럼 문자를 index로 변환
+     */
+    private static int columnIndex(String ref) {
+        int column = 0;
+
+        for (int i = 0; i < ref.length(); i++) {
+            char ch = ref.charAt(i);
+
+            if (ch < 'A' || ch > 'Z') break;
+
+            column = column * 26 + (ch - 'A' + 1);
+        }
+
+        return column - 1;
+    }
+
+    @Override
+    public int getRowNum() {
+        return rowNum;
+    }
+
+    @Override
+    public ReadRow getRow() {
+        return row;
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            xml.close();
+        } catch (XMLStreamException e) {
+            throw new IOException(e);
+        } finally {
+            inputStream.close();
+        }
+    }
+
+}
@@ -0,0 +1,191 @@
+package org.excel.read;
+
+import org.apache.poi.openxml4j.exceptions.OpenXML4JException;
+import org.apache.poi.openxml4j.opc.OPCPackage;
+import org.apache.poi.openxml4j.opc.PackageAccess;
+import org.apache.poi.openxml4j.opc.PackagePart;
+import org.apache.poi.ss.usermodel.DateUtil;
+import org.apache.poi.util.XMLHelper;
+import org.apache.poi.xssf.eventusermodel.ReadOnlySharedStringsTable;
+import org.apache.poi.xssf.eventusermodel.XSSFReader;
+import org.apache.poi.xssf.model.SharedStrings;
+import org.apache.poi.xssf.model.StylesTable;
+import org.apache.poi.xssf.usermodel.XSSFCellStyle;
+import org.xml.sax.SAXException;
+
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * XSSFReader 기반 xlsx 스트리밍 SheetSource
+ * 시트 XML을 StAX로 row 단위 파싱하므로 DOM을 만들지 않음
+ * shared strings, 날짜 스타일 정보는 한 번만 로딩 후 읽기 전용으로 공유
+ * 시트 part는 zip 파일에서 각각 열리므로 시트별 cursor를 여러 thread에서 동시에 사용 가능
+ */
+public class XlsxSheetSource implements SheetSource {
+
+    private final File file;
+
+    private final boolean deleteOnClose;
+
+    private final OPCPackage opcPackage;
+
+    private final SharedStrings sharedStrings;
+
+    //스타일 index 별 날짜 서식 여부
+    private final boolean[] dateStyles;
+
+    private final boolean date1904;
+
+    private final List<PackagePart> sheetParts = new ArrayList<>();
+
+    private final List<String> sheetNames = new ArrayList<>();
+
+    public XlsxSheetSource(File file, boolean deleteOnClose) throws IOException {
+        this(file, deleteOnClose, false, -1);
+    }
+
+    /**
+     * compactSharedStrings면 shared strings를 CompactSharedStrings로 로딩 (spillSize 초과시 임시 파일 memory-map)
+     */
+    public XlsxSheetSource(File file, boolean deleteOnClose, boolean compactSharedStrings, long spillSize) throws IOException {
+        this.file = file;
+        this.deleteOnClose = deleteOnClose;
+
+        try {
+            this.opcPackage = OPCPackage.open(file, PackageAccess.READ);
+        } catch (Exception e) {
+            deleteFile();
+            throw new IOException(e);
+        }
+
+        try {
+            XSSFReader reader = new XSSFReader(opcPackage);
+
+            this.sharedStrings = compactSharedStrings
+                    ? new CompactSharedStrings(opcPackage, spillSize)
+                    : new ReadOnlySharedStringsTable(opcPackage);
+            this.dateStyles = readDateStyles(reader.getStylesTable());
+            this.date1904 = readDate1904(reader);
+
+            XSSFReader.SheetIterator iterator = (XSSFReader.SheetIterator) reader.getSheetsData();
+
+            while (iterator.hasNext()) {
+                //part 목록만 필요하므로 stream은 바로 닫음
+                iterator.next().close();
+
+                sheetParts.add(iterator.getSheetPart());
+                sheetNames.add(iterator.getSheetName());
+            }
+        } catch (OpenXML4JException | SAXException | XMLStreamException | IOException | RuntimeException e) {
+            close();
+            throw e instanceof IOException ? (IOException) e : new IOException(e);
+        }
+    }
+
+    @Override
+    public RowCursor openSheet(int sheetNum) throws IOException {
+        if (sheetNum < 0 || sheetNum >= sheetParts.size()) {
+            throw new IllegalArgumentException("Sheet index (" + sheetNum + ") is out of range (0.." + (sheetParts.size() - 1) + ")");
+        }
+
+        try {
+            return new XlsxRowCursor(sheetParts.get(sheetNum).getInputStream(), sharedStrings, dateStyles, date1904);
+        } catch (XMLStreamException e) {
+            throw new IOException(e);
+        }
+    }
+
+    @Override
+    public boolean isConcurrent() {
+        return true;
+    }
+
+    //엑셀 시트 이름은 대소문자 구분 없음
+    @Override
+    public int getSheetIndex(String sheetName) {
+        for (int i = 0; i < sheetNames.size(); i++) {
+            if (sheetNames.get(i).equalsIgnoreCase(sheetName)) return i;
+        }
+
+        return -1;
+    }
+
+    public List<String> getSheetNames() {
+        return sheetNames;
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            //compact shared strings의 임시 파일, memory-map 해제
+            if (sharedStrings instanceof CompactSharedStrings compact) compact.close();
+        } finally {
+            try {
+                //읽기 전용 package는 저장하지 않고 닫음
+                if (opcPackage != null) opcPackage.revert();
+            } finally {
+                deleteFile();
+            }
+        }
+    }
+
+    private void deleteFile() throws IOException {
+        if (deleteOnClose) {
+            Files.deleteIfExists(file.toPath());
+        }
+    }
+
+    private static boolean[] readDateStyles(StylesTable stylesTable) {
+        if (stylesTable == null) return new boolean[0];
+
+        boolean[] dateStyles = new boolean[stylesTable.getNumCellStyles()];
+
+        for (int i = 0; i < dateStyles.length; i++) {
+            XSSFCellStyle style = stylesTable.getStyleAt(i);
+
+            dateStyles[i] = style != null && DateUtil.isADateFormat(style.getDataFormat(), style.getDataFormatString());
+        }
+
+        return dateStyles;
+    }
+
+    /**
+     * workbook.xml의 workbookPr date1904 속성 조회
+     */
+    private static boolean readDate1904(XSSFReader reader) throws IOException, OpenXML4JException, XMLStreamException {
+        try (InputStream inputStream = reader.getWorkbookData()) {
+            XMLStreamReader xml = XMLHelper.newXMLInputFactory().createXMLStreamReader(inputStream);
+
+            try {
+                while (xml.hasNext()) {
+                    if (xml.next() == XMLStreamConstants.START_ELEMENT) {
+                        String name = xml.getLocalName();
+
+                        if ("workbookPr".equals(name)) {
+                            String value = xml.getAttributeValue(null, "date1904");
+                            return "1".equals(value) || "true".equalsIgnoreCase(value);
+                        }
+
+                        //workbookPr는 sheets보다 앞에 위치
+                        if ("sheets".equals(name)) {
+                            return false;
+                        }
+                    }
+                }
+
+                return false;
+            } finally {
+                xml.close();
+            }
+        }
+    }
+
+}
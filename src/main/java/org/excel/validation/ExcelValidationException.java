@@ -0,0 +1,31 @@
+package org.excel.validation;
+
+import java.util.List;
+
+/**
+ * 검증 옵션 사용시 오류가 있는 파일
+ */
+public class ExcelValidationException extends RuntimeException {
+
+    private static final long serialVersionUID = 1L;
+
+    private final List<ReadError> errors;
+
+    //maxErrors에 도달해 읽기를 중단한 경우 true
+    private final boolean aborted;
+
+    public ExcelValidationException(List<ReadError> errors, boolean aborted) {
+        super(errors.size() + " validation errors" + (aborted ? " (aborted)" : "") + ", first : " + errors.get(0), null, false, false);
+        this.errors = errors;
+        this.aborted = aborted;
+    }
+
+    public List<ReadError> getErrors() {
+        return errors;
+    }
+
+    public boolean isAborted() {
+        return aborted;
+    }
+
+}
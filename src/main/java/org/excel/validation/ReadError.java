@@ -0,0 +1,15 @@
+package org.excel.validation;
+
+import org.excel.enums.ErrorType;
+
+/**
+ * 검증 오류 하나 (row, column은 0부터, value는 셀 문자열)
+ */
+public record ReadError(String sheet, int row, int column, String field, ErrorType type, String value) {
+
+    @Override
+    public String toString() {
+        return sheet + "[" + row + "," + column + "] " + field + " " + type + (value == null ? "" : " : " + value);
+    }
+
+}
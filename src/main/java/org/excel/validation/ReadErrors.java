@@ -0,0 +1,49 @@
+package org.excel.validation;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 파일 한 번 읽기의 검증 오류 수집 (시트 병렬 읽기, 병렬 row 변환에서 공유)
+ * maxErrors개가 모이면 즉시 ExcelValidationException으로 읽기 중단
+ * 병렬 처리시 오류 순서는 row 순서와 다를 수 있음
+ */
+public class ReadErrors {
+
+    private final int maxErrors;
+
+    private final List<ReadError> errors = new ArrayList<>();
+
+    public ReadErrors(int maxErrors) {
+        if (maxErrors < 1) {
+            throw new IllegalArgumentException("maxErrors must be positive : " + maxErrors);
+        }
+
+        this.maxErrors = maxErrors;
+    }
+
+    /**
+     * row 하나의 오류 추가
+     */
+    public synchronized void addAll(List<ReadError> rowErrors) {
+        for (ReadError error : rowErrors) {
+            if (errors.size() >= maxErrors) break;
+
+            errors.add(error);
+        }
+
+        if (errors.size() >= maxErrors) {
+            throw new ExcelValidationException(List.copyOf(errors), true);
+        }
+    }
+
+    /**
+     * 읽기가 끝난 뒤 오류가 있으면 예외
+     */
+    public synchronized void throwIfAny() {
+        if (!errors.isEmpty()) {
+            throw new ExcelValidationException(List.copyOf(errors), false);
+        }
+    }
+
+}
@@ -0,0 +1,186 @@
+package org.excel.write;
+
+import org.apache.poi.ss.usermodel.DataFormatter;
+import org.apache.poi.ss.usermodel.DateUtil;
+import org.apache.poi.ss.util.NumberToTextConverter;
+import org.excel.annotation.ExcelColumnWrite;
+import org.excel.annotation.ExcelSheetInfo;
+import org.excel.convert.WriteConverters;
+import org.excel.meta.ExcelClassMeta;
+import org.excel.meta.ExcelMetaRegistry;
+import org.excel.meta.WriteColumn;
+import org.excel.option.CsvFormat;
+
+import java.io.BufferedWriter;
+import java.io.Flushable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Iterator;
+
+/**
+ * @ExcelColumnWrite 매핑으로 CSV / TSV 작성
+ * 컬럼 번호 사이의 빈 컬럼은 빈 필드, rowOffset 만큼 빈 줄 작성
+ * 숫자와 날짜는 엑셀에 표시되는 문자열과 같은 형식 (dateFormat이 없는 날짜는 ISO 형식)
+ */
+public class CsvSheetWriter implements Flushable {
+
+    private final Writer writer;
+
+    private final CsvFormat format;
+
+    //엑셀 날짜 포맷 문자열 변환
+    private final DataFormatter dataFormatter = new DataFormatter();
+
+    //작성한 row, 셀 수 (헤더 제외)
+    private long rowCount;
+
+    private long cellCount;
+
+    public CsvSheetWriter(OutputStream outputStream, CsvFormat format) {
+        format.validate();
+
+        this.writer = new BufferedWriter(new OutputStreamWriter(outputStream, format.getCharset()), 64 * 1024);
+        this.format = format;
+    }
+
+    /**
+     * 클래스의 시트 정보로 헤더와 row 작성
+     */
+    public void write(Class<?> type, Iterator<?> rows) throws IOException {
+        ExcelClassMeta meta = ExcelMetaRegistry.get(type);
+
+        if (meta.getSheetInfo() == null) return;
+
+        ExcelSheetInfo sheetInfo = meta.getSheetInfo();
+
+        for (int i = 0; i < sheetInfo.rowOffset(); i++) {
+            writer.write(format.getLineSeparator());
+        }
+
+        WriteColumn[] columns = meta.getWriteColumns();
+
+        if (sheetInfo.isHeader()) {
+            int col = 0;
+
+            for (WriteColumn column : columns) {
+                col = writeField(col, column.getInfo().column(), column.getInfo().value());
+            }
+
+            writer.write(format.getLineSeparator());
+        }
+
+        while (rows.hasNext()) {
+            Object dto = rows.next();
+
+            //하위 클래스가 섞인 경우 실제 클래스 기준
+            WriteColumn[] rowColumns = dto.getClass() == type ? columns : ExcelMetaRegistry.get(dto.getClass()).getWriteColumns();
+
+            int col = 0;
+
+            for (WriteColumn column : rowColumns) {
+                ExcelColumnWrite info = column.getInfo();
+
+                col = writeField(col, info.column(), text(column.getAccessor().get(dto), info));
+            }
+
+            writer.write(format.getLineSeparator());
+
+            rowCount++;
+            cellCount += rowColumns.length;
+        }
+    }
+
+    public long getRowCount() {
+        return rowCount;
+    }
+
+    public long getCellCount() {
+        return cellCount;
+    }
+
+    @Override
+    public void flush() throws IOException {
+        writer.flush();
+    }
+
+    /**
+     * 현재 위치(col)에서 대상 컬럼까지 구분자 작성 후 값 작성
+     * null은 빈 필드(읽으면 셀 없음), 빈 문자열은 ""로 작성해 읽을 때 구분
+     */
+    private int writeField(int col, int target, String value) throws IOException {
+        for (; col < target; col++) {
+            writer.write(format.getDelimiter());
+        }
+
+        if (value == null) return col;
+
+        if (needsQuote(value)) {
+            char quote = format.getQuote();
+
+            writer.write(quote);
+
+            for (int i = 0; i < value.length(); i++) {
+                char c = value.charAt(i);
+
+                //따옴표는 두 번 작성
+                if (c == quote) writer.write(quote);
+                writer.write(c);
+            }
+
+            writer.write(quote);
+        } else {
+            writer.write(value);
+        }
+
+        return col;
+    }
+
+    private boolean needsQuote(String value) {
+        if (format.isQuoteAll() || value.isEmpty()) return true;
+
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+
+            if (c == format.getDelimiter() || c == format.getQuote() || c == '\r' || c == '\n') return true;
+        }
+
+        return false;
+    }
+
+    private String text(Object value, ExcelColumnWrite info) {
+        if (value == null) return null;
+
+        if (value instanceof Integer || value instanceof Long || value instanceof Short || value instanceof Byte || value instanceof BigInteger) {
+            return value.toString();
+        }
+
+        if (value instanceof BigDecimal bigDecimal) return bigDecimal.toPlainString();
+
+        if (value instanceof Number number) return NumberToTextConverter.toText(number.doubleValue());
+
+        if (value instanceof Instant instant) value = LocalDateTime.ofInstant(instant, ZoneOffset.UTC);
+
+        if (value instanceof LocalDate || value instanceof LocalDateTime) {
+            if (info.dateFormat().isEmpty()) return value.toString();
+
+            double excelDate = value instanceof LocalDate localDate
+                    ? DateUtil.getExcelDate(localDate)
+                    : DateUtil.getExcelDate((LocalDateTime) value);
+
+            return dataFormatter.formatRawCellContents(excelDate, -1, info.dateFormat());
+        }
+
+        if (value instanceof Enum<?> enumValue) return WriteConverters.enumText(enumValue);
+
+        return value.toString();
+    }
+
+}
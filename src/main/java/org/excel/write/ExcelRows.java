@@ -0,0 +1,103 @@
+package org.excel.write;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.function.IntFunction;
+import java.util.stream.Stream;
+
+/**
+ * 클래스를 명시한 쓰기 데이터
+ * Stream, Iterator, 페이지 조회 함수를 list로 모으지 않고 바로 시트에 기록 (writeExcel 인자로 전달)
+ */
+public class ExcelRows<T> implements AutoCloseable {
+
+    private final Class<T> type;
+
+    private final Iterator<? extends T> iterator;
+
+    //작성 완료 후 정리 (stream close 등)
+    private final Runnable onClose;
+
+    private ExcelRows(Class<T> type, Iterator<? extends T> iterator, Runnable onClose) {
+        this.type = type;
+        this.iterator = iterator;
+        this.onClose = onClose;
+    }
+
+    /**
+     * stream 데이터, 작성 완료 후 stream close
+     */
+    public static <T> ExcelRows<T> of(Class<T> type, Stream<? extends T> stream) {
+        return new ExcelRows<>(type, stream.iterator(), stream::close);
+    }
+
+    public static <T> ExcelRows<T> of(Class<T> type, Iterator<? extends T> iterator) {
+        return new ExcelRows<>(type, iterator, () -> {
+        });
+    }
+
+    public static <T> ExcelRows<T> of(Class<T> type, Iterable<? extends T> iterable) {
+        return of(type, iterable.iterator());
+    }
+
+    /**
+     * 페이지 단위 조회 (0페이지부터 빈 페이지 또는 null이 나올 때까지 조회)
+     * 메모리에는 한 페이지만 유지
+     */
+    public static <T> ExcelRows<T> paged(Class<T> type, IntFunction<? extends Collection<? extends T>> pageSupplier) {
+        return of(type, new PageIterator<>(pageSupplier));
+    }
+
+    public Class<T> getType() {
+        return type;
+    }
+
+    public Iterator<? extends T> iterator() {
+        return iterator;
+    }
+
+    @Override
+    public void close() {
+        onClose.run();
+    }
+
+    private static class PageIterator<T> implements Iterator<T> {
+
+        private final IntFunction<? extends Collection<? extends T>> pageSupplier;
+
+        private Iterator<? extends T> current = Collections.emptyIterator();
+
+        private int page = 0;
+
+        private boolean last = false;
+
+        PageIterator(IntFunction<? extends Collection<? extends T>> pageSupplier) {
+            this.pageSupplier = pageSupplier;
+        }
+
+        @Override
+        public boolean hasNext() {
+            while (!current.hasNext() && !last) {
+                Collection<? extends T> rows = pageSupplier.apply(page++);
+
+                if (rows == null || rows.isEmpty()) {
+                    last = true;
+                } else {
+                    current = rows.iterator();
+                }
+            }
+
+            return current.hasNext();
+        }
+
+        @Override
+        public T next() {
+            if (!hasNext()) throw new NoSuchElementException();
+
+            return current.next();
+        }
+    }
+
+}
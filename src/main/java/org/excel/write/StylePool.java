@@ -0,0 +1,137 @@
+package org.excel.write;
+
+import org.apache.poi.ss.usermodel.*;
+import org.excel.annotation.ExcelColumnFont;
+import org.excel.annotation.ExcelColumnWrite;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * workbook 단위 CellStyle / Font 캐시
+ * 정렬, 태두리, 색상, 폰트, 데이터 포맷이 같은 컬럼은 헤더/데이터/시트와 관계없이 하나의 스타일을 공유
+ * (엑셀 스타일 최대 개수 64000개, styles.xml 크기 감소)
+ */
+public class StylePool {
+
+    private static final short BLACK = IndexedColors.BLACK.getIndex();
+
+    //배경색 없음
+    private static final short NO_FILL = -1;
+
+    private final Workbook workbook;
+
+    private final Map<StyleKey, CellStyle> styles = new HashMap<>();
+
+    private final Map<FontKey, Font> fonts = new HashMap<>();
+
+    public StylePool(Workbook workbook) {
+        this.workbook = workbook;
+    }
+
+    /**
+     * 헤더 스타일 (배경색 + 굵은 폰트)
+     */
+    public synchronized CellStyle headerStyle(ExcelColumnWrite meta) {
+        ExcelColumnFont fontStyle = meta.font();
+
+        FontKey font = new FontKey(true, false, false, fontStyle.fontName(), fontStyle.fontSize(), fontStyle.fontColor().getIndex());
+
+        return style(new StyleKey(meta.align(), meta.topBorder(), meta.bottomBorder(), meta.leftBorder(), meta.rightBorder(),
+                meta.headerColor().getIndex(), "", font));
+    }
+
+    /**
+     * 데이터 스타일 (날짜 포맷 + 컬럼 폰트)
+     */
+    public synchronized CellStyle dataStyle(ExcelColumnWrite meta) {
+        ExcelColumnFont fontStyle = meta.font();
+
+        FontKey font = new FontKey(fontStyle.bold(), fontStyle.italic(), fontStyle.underline(), fontStyle.fontName(), fontStyle.fontSize(), fontStyle.fontColor().getIndex());
+
+        return style(new StyleKey(meta.align(), meta.topBorder(), meta.bottomBorder(), meta.leftBorder(), meta.rightBorder(),
+                NO_FILL, meta.dateFormat(), font));
+    }
+
+    //생성한 스타일 개수
+    public synchronized int getStyleCount() {
+        return styles.size();
+    }
+
+    //생성한 폰트 개수
+    public synchronized int getFontCount() {
+        return fonts.size();
+    }
+
+    private CellStyle style(StyleKey key) {
+        CellStyle style = styles.get(key);
+
+        if (style == null) {
+            style = createStyle(key);
+            styles.put(key, style);
+        }
+
+        return style;
+    }
+
+    private CellStyle createStyle(StyleKey key) {
+        CellStyle style = workbook.createCellStyle();
+
+        //배경색
+        if (key.fillColor() != NO_FILL) {
+            style.setFillForegroundColor(key.fillColor());
+            style.setFillPattern(FillPatternType.SOLID_FOREGROUND);
+        }
+
+        // 날짜 포맷 있으면 설정
+        if (!key.dataFormat().isEmpty()) {
+            CreationHelper helper = workbook.getCreationHelper();
+            style.setDataFormat(helper.createDataFormat().getFormat(key.dataFormat()));
+        }
+
+        //태두리
+        style.setBorderTop(key.top());
+        style.setBorderBottom(key.bottom());
+        style.setBorderLeft(key.left());
+        style.setBorderRight(key.right());
+
+        style.setTopBorderColor(BLACK);
+        style.setBottomBorderColor(BLACK);
+        style.setLeftBorderColor(BLACK);
+        style.setRightBorderColor(BLACK);
+
+        //정렬
+        style.setAlignment(key.align());
+
+        //폰트
+        style.setFont(font(key.font()));
+
+        return style;
+    }
+
+    private Font font(FontKey key) {
+        Font font = fonts.get(key);
+
+        if (font == null) {
+            font = workbook.createFont();
+            font.setBold(key.bold());
+            font.setFontName(key.name());
+            font.setFontHeightInPoints(key.size());
+            font.setColor(key.color());
+            font.setItalic(key.italic());
+            if (key.underline()) font.setUnderline(Font.U_SINGLE);
+
+            fonts.put(key, font);
+        }
+
+        return font;
+    }
+
+    private record FontKey(boolean bold, boolean italic, boolean underline, String name, short size, short color) {
+    }
+
+    private record StyleKey(HorizontalAlignment align, BorderStyle top, BorderStyle bottom, BorderStyle left, BorderStyle right,
+                            short fillColor, String dataFormat, FontKey font) {
+    }
+
+}
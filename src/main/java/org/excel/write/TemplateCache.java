@@ -0,0 +1,151 @@
+package org.excel.write;
+
+import org.apache.poi.ss.usermodel.Workbook;
+import org.apache.poi.ss.usermodel.WorkbookFactory;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 템플릿 파일 캐시
+ * 경로 + 수정시간 기준으로 템플릿 bytes를 한 번만 읽고, export마다 메모리에서 새 workbook 생성
+ * (복사본 파일을 만들지 않으므로 같은 템플릿으로 동시에 export 가능)
+ * 보관 bytes 합계가 maxBytes를 넘으면 가장 오래 사용하지 않은 템플릿부터 제거, maxBytes보다 큰 템플릿은 캐시하지 않음
+ */
+public class TemplateCache {
+
+    //기본 최대 보관 크기 64MB
+    public static final long DEFAULT_MAX_BYTES = 64L * 1024 * 1024;
+
+    private static final TemplateCache SHARED = new TemplateCache();
+
+    private final Map<Path, Template> templates = new ConcurrentHashMap<>();
+
+    private final long maxBytes;
+
+    public TemplateCache() {
+        this(DEFAULT_MAX_BYTES);
+    }
+
+    public TemplateCache(long maxBytes) {
+        if (maxBytes < 0) {
+            throw new IllegalArgumentException("maxBytes must not be negative: " + maxBytes);
+        }
+
+        this.maxBytes = maxBytes;
+    }
+
+    /**
+     * 기본 공유 캐시
+     */
+    public static TemplateCache shared() {
+        return SHARED;
+    }
+
+    /**
+     * 템플릿으로 새 workbook 생성
+     */
+    public Workbook open(Path templatePath) throws IOException {
+        byte[] bytes = load(templatePath.toAbsolutePath().normalize());
+
+        return WorkbookFactory.create(new ByteArrayInputStream(bytes));
+    }
+
+    /**
+     * 캐시 비우기
+     */
+    public void clear() {
+        templates.clear();
+    }
+
+    private byte[] load(Path path) throws IOException {
+        BasicFileAttributes attributes = Files.readAttributes(path, BasicFileAttributes.class);
+
+        Template cached = templates.get(path);
+
+        if (cached != null && cached.isSame(attributes)) {
+            cached.lastUsed = System.nanoTime();
+            return cached.bytes;
+        }
+
+        //캐시 한도보다 큰 템플릿은 보관하지 않고 매번 읽음
+        if (attributes.size() > maxBytes) {
+            templates.remove(path);
+            return Files.readAllBytes(path);
+        }
+
+        Template template;
+
+        try {
+            //수정된 경우에만 다시 읽음, 동시에 요청해도 한 번만 읽음
+            template = templates.compute(path, (key, current) -> {
+                if (current != null && current.isSame(attributes)) return current;
+
+                try {
+                    return new Template(attributes.lastModifiedTime(), attributes.size(), Files.readAllBytes(key));
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+
+        template.lastUsed = System.nanoTime();
+        trim(template);
+
+        return template.bytes;
+    }
+
+    /**
+     * 보관 bytes 합계가 maxBytes 이하가 될 때까지 오래 사용하지 않은 템플릿 제거 (방금 읽은 템플릿은 유지)
+     */
+    private synchronized void trim(Template keep) {
+        long total = 0;
+
+        for (Template template : templates.values()) total += template.bytes.length;
+
+        while (total > maxBytes) {
+            Map.Entry<Path, Template> oldest = null;
+
+            for (Map.Entry<Path, Template> entry : templates.entrySet()) {
+                if (entry.getValue() == keep) continue;
+                if (oldest == null || entry.getValue().lastUsed < oldest.getValue().lastUsed) oldest = entry;
+            }
+
+            if (oldest == null) return;
+
+            if (templates.remove(oldest.getKey(), oldest.getValue())) total -= oldest.getValue().bytes.length;
+        }
+    }
+
+    private static final class Template {
+
+        private final FileTime lastModified;
+
+        private final long size;
+
+        private final byte[] bytes;
+
+        //LRU 제거 기준
+        private volatile long lastUsed;
+
+        private Template(FileTime lastModified, long size, byte[] bytes) {
+            this.lastModified = lastModified;
+            this.size = size;
+            this.bytes = bytes;
+        }
+
+        boolean isSame(BasicFileAttributes attributes) {
+            return lastModified.equals(attributes.lastModifiedTime()) && size == attributes.size();
+        }
+    }
+
+}
@@ -0,0 +1,95 @@
+package org.excel.write;
+
+import org.apache.poi.ss.usermodel.Cell;
+import org.apache.poi.ss.usermodel.CellStyle;
+import org.apache.poi.ss.usermodel.Row;
+import org.excel.annotation.ExcelColumnWrite;
+import org.excel.meta.ExcelClassMeta;
+import org.excel.meta.WriteColumn;
+
+/**
+ * 클래스 하나의 쓰기 계획
+ * 컬럼 번호, 필드 변환기, 데이터 스타일을 배열로 미리 계산해 row마다 조회 비용 없이 기록
+ */
+public class WritePlan {
+
+    private final Class<?> type;
+
+    private final StylePool stylePool;
+
+    private final WriteColumn[] writers;
+
+    private final int[] columns;
+
+    private final CellStyle[] styles;
+
+    public WritePlan(ExcelClassMeta meta, StylePool stylePool) {
+        this.type = meta.getType();
+        this.stylePool = stylePool;
+        this.writers = meta.getWriteColumns();
+        this.columns = new int[writers.length];
+        this.styles = new CellStyle[writers.length];
+
+        for (int i = 0; i < writers.length; i++) {
+            ExcelColumnWrite info = writers[i].getInfo();
+
+            columns[i] = info.column();
+            styles[i] = stylePool.dataStyle(info);
+        }
+    }
+
+    public Class<?> getType() {
+        return type;
+    }
+
+    public int getColumnCount() {
+        return writers.length;
+    }
+
+    /**
+     * 헤더 작성 및 스타일 적용
+     */
+    public void writeHeader(Row headerRow) {
+        for (WriteColumn writer : writers) {
+            ExcelColumnWrite info = writer.getInfo();
+
+            Cell cell = cell(headerRow, info.column());
+            cell.setCellValue(info.value());
+
+            //같은 스타일의 헤더는 하나의 CellStyle 공유
+            cell.setCellStyle(stylePool.headerStyle(info));
+        }
+    }
+
+    /**
+     * 새로 만든 row에 기록 (기존 셀 조회 없이 바로 생성)
+     */
+    public void writeNewRow(Row row, Object dto) {
+        for (int i = 0; i < writers.length; i++) {
+            Cell cell = row.createCell(columns[i]);
+
+            //필드별 변환기로 값 입력
+            writers[i].write(cell, dto);
+            cell.setCellStyle(styles[i]);
+        }
+    }
+
+    /**
+     * 기존 row에 기록 (템플릿에 있던 셀은 재사용)
+     */
+    public void writeRow(Row row, Object dto) {
+        for (int i = 0; i < writers.length; i++) {
+            Cell cell = cell(row, columns[i]);
+
+            writers[i].write(cell, dto);
+            cell.setCellStyle(styles[i]);
+        }
+    }
+
+    private Cell cell(Row row, int colIdx) {
+        Cell cell = row.getCell(colIdx);
+
+        return cell != null ? cell : row.createCell(colIdx);
+    }
+
+}
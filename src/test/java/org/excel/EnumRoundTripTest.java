@@ -0,0 +1,104 @@
+package org.excel;
+
+import lombok.EqualsAndHashCode;
+import org.apache.poi.ss.usermodel.Workbook;
+import org.apache.poi.ss.usermodel.WorkbookFactory;
+import org.excel.annotation.ExcelColumnRead;
+import org.excel.annotation.ExcelColumnWrite;
+import org.excel.annotation.ExcelSheetInfo;
+import org.excel.option.CsvFormat;
+import org.excel.option.ExcelReadOption;
+import org.excel.option.ExcelWriteOption;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * toString을 재정의한 enum도 직접 작성한 파일에서 다시 읽을 수 있는지 검증
+ */
+class EnumRoundTripTest {
+
+    public enum Grade {
+        LOW("low grade"), HIGH("high grade");
+
+        private final String label;
+
+        Grade(String label) {
+            this.label = label;
+        }
+
+        @Override
+        public String toString() {
+            return label;
+        }
+    }
+
+    @ExcelSheetInfo("grades")
+    @EqualsAndHashCode
+    public static class GradeRow {
+
+        @ExcelColumnWrite(value = "name", column = 0)
+        @ExcelColumnRead(column = 0)
+        public String name;
+
+        @ExcelColumnWrite(value = "grade", column = 1)
+        @ExcelColumnRead(column = 1)
+        public Grade grade;
+
+        public GradeRow() {
+        }
+
+        GradeRow(String name, Grade grade) {
+            this.name = name;
+            this.grade = grade;
+        }
+    }
+
+    private static final List<GradeRow> ROWS = List.of(new GradeRow("a", Grade.LOW), new GradeRow("b", Grade.HIGH));
+
+    @Test
+    void xlsxRoundTrip() throws Exception {
+        byte[] bytes = new ExcelWriteConverter().writeExcel(null, ROWS).toByteArray();
+
+        assertEquals(ROWS, read(ExcelReadOption.builder().build(), bytes));
+        assertEquals(ROWS, read(ExcelReadOption.builder().streaming(true).build(), bytes));
+    }
+
+    @Test
+    void csvWritesSameTextAsXlsx() throws Exception {
+        byte[] csv = new ExcelWriteConverter(ExcelWriteOption.builder().csv(CsvFormat.csv()).build())
+                .writeExcel(null, ROWS).toByteArray();
+
+        assertEquals("name,grade\r\na,low grade\r\nb,high grade\r\n", new String(csv, StandardCharsets.UTF_8));
+        assertEquals(ROWS, read(ExcelReadOption.builder().csv(CsvFormat.csv()).build(), csv));
+    }
+
+    @Test
+    void readsConstantName() throws Exception {
+        GradeRow row = new GradeRow("a", null);
+        byte[] bytes = new ExcelWriteConverter().writeExcel(null, List.of(row)).toByteArray();
+
+        //name으로 작성된 기존 파일도 읽을 수 있어야 함
+        try (Workbook workbook = WorkbookFactory.create(new ByteArrayInputStream(bytes))) {
+            workbook.getSheetAt(0).getRow(1).createCell(1).setCellValue("HIGH");
+
+            ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+            workbook.write(outputStream);
+            bytes = outputStream.toByteArray();
+        }
+
+        assertEquals(List.of(new GradeRow("a", Grade.HIGH)), read(ExcelReadOption.builder().build(), bytes));
+    }
+
+    private static List<?> read(ExcelReadOption option, byte[] bytes) throws Exception {
+        return (List<?>) new ExcelReadConverter(option)
+                .readExcel(new ByteArrayInputStream(bytes), 1, GradeRow.class)
+                .get("grades");
+    }
+
+}
@@ -0,0 +1,62 @@
+package org.excel;
+
+import org.excel.option.ExcelReadOption;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * rowPool 병렬 변환 결과가 순차 변환과 같은지 검증
+ */
+class ParallelReadTest {
+
+    private static final int ROWS = 5000;
+
+    private static ForkJoinPool pool;
+
+    private static byte[] xlsx;
+
+    @BeforeAll
+    static void setUp() throws Exception {
+        pool = new ForkJoinPool(8);
+        xlsx = new ExcelWriteConverter().writeExcel(null, TestRow.rows(ROWS)).toByteArray();
+    }
+
+    @AfterAll
+    static void tearDown() {
+        pool.shutdown();
+    }
+
+    @Test
+    void rowPoolOnUsermodelMatchesSequential() throws Exception {
+        List<?> sequential = read(ExcelReadOption.builder().build());
+
+        assertEquals(TestRow.rows(ROWS), sequential);
+
+        //usermodel workbook은 파싱 thread에서 복사한 row만 worker에 전달되어야 함
+        for (int i = 0; i < 5; i++) {
+            assertEquals(sequential, read(ExcelReadOption.builder().rowPool(pool).rowChunkSize(64).build()));
+        }
+    }
+
+    @Test
+    void rowPoolOnStreamingMatchesSequential() throws Exception {
+        List<?> sequential = read(ExcelReadOption.builder().streaming(true).build());
+
+        assertEquals(TestRow.rows(ROWS), sequential);
+        assertEquals(sequential, read(ExcelReadOption.builder().streaming(true).rowPool(pool).rowChunkSize(64).build()));
+    }
+
+    private static List<?> read(ExcelReadOption option) throws Exception {
+        return (List<?>) new ExcelReadConverter(option)
+                .readExcel(new ByteArrayInputStream(xlsx), 1, TestRow.class)
+                .get("rows");
+    }
+
+}
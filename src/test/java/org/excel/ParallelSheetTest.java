@@ -0,0 +1,139 @@
+package org.excel;
+
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
+import org.excel.annotation.ExcelColumnRead;
+import org.excel.annotation.ExcelColumnWrite;
+import org.excel.annotation.ExcelSheetInfo;
+import org.excel.option.ExcelReadOption;
+import org.excel.option.ExcelWriteOption;
+import org.excel.validation.ExcelValidationException;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * sheetExecutor 시트 병렬 쓰기 / 읽기와 병렬 검증 중단 검증
+ */
+class ParallelSheetTest {
+
+    private static final int ROWS = 3000;
+
+    @ExcelSheetInfo(value = "scores", findByName = true)
+    @EqualsAndHashCode
+    @ToString
+    public static class ScoreRow {
+
+        @ExcelColumnWrite(value = "id", column = 0)
+        @ExcelColumnRead(column = 0)
+        public long id;
+
+        @ExcelColumnWrite(value = "value", column = 1)
+        @ExcelColumnRead(column = 1)
+        public double value;
+
+        public ScoreRow() {
+        }
+
+        ScoreRow(int i) {
+            this.id = i * 1_000_003L;
+            this.value = i / 8.0;
+        }
+    }
+
+    //count 범위를 좁혀 대부분의 row가 검증 오류
+    @ExcelSheetInfo(value = "rows", findByName = true)
+    public static class LimitedRow {
+
+        @ExcelColumnRead(column = 0)
+        public String name;
+
+        @ExcelColumnRead(column = 1, min = 0, max = 10)
+        public int count;
+    }
+
+    private static final List<TestRow> TEST_ROWS = TestRow.rows(ROWS);
+
+    private static final List<ScoreRow> SCORE_ROWS = scoreRows();
+
+    private static ExecutorService executor;
+
+    private static ForkJoinPool pool;
+
+    @BeforeAll
+    static void setUp() {
+        executor = Executors.newFixedThreadPool(2);
+        pool = new ForkJoinPool(4);
+    }
+
+    @AfterAll
+    static void tearDown() {
+        executor.shutdown();
+        pool.shutdown();
+    }
+
+    @Test
+    void parallelWriteMatchesSequential() throws Exception {
+        byte[] sequential = new ExcelWriteConverter().writeExcel(null, TEST_ROWS, SCORE_ROWS).toByteArray();
+        byte[] parallel = new ExcelWriteConverter(ExcelWriteOption.builder().sheetExecutor(executor).build())
+                .writeExcel(null, TEST_ROWS, SCORE_ROWS).toByteArray();
+
+        Map<String, Object> expected = read(ExcelReadOption.builder().build(), sequential);
+
+        assertEquals(TEST_ROWS, expected.get("rows"));
+        assertEquals(SCORE_ROWS, expected.get("scores"));
+        assertEquals(expected, read(ExcelReadOption.builder().build(), parallel));
+    }
+
+    @Test
+    void parallelSheetReadMatchesSequential() throws Exception {
+        byte[] xlsx = new ExcelWriteConverter().writeExcel(null, TEST_ROWS, SCORE_ROWS).toByteArray();
+
+        Map<String, Object> expected = read(ExcelReadOption.builder().build(), xlsx);
+
+        assertEquals(expected, read(ExcelReadOption.builder().sheetExecutor(executor).build(), xlsx));
+        assertEquals(expected, read(ExcelReadOption.builder().streaming(true).sheetExecutor(executor).build(), xlsx));
+        assertEquals(expected, read(ExcelReadOption.builder().streaming(true).sheetExecutor(executor)
+                .rowPool(pool).rowChunkSize(64).build(), xlsx));
+    }
+
+    @Test
+    void maxErrorsAbortsParallelRead() throws Exception {
+        byte[] xlsx = new ExcelWriteConverter().writeExcel(null, TEST_ROWS).toByteArray();
+
+        for (ExcelReadOption option : List.of(
+                ExcelReadOption.builder().validate(true).maxErrors(20).build(),
+                ExcelReadOption.builder().streaming(true).validate(true).maxErrors(20).rowPool(pool).rowChunkSize(64).build())) {
+            ExcelValidationException exception = assertThrows(ExcelValidationException.class, () ->
+                    new ExcelReadConverter(option).readExcel(new ByteArrayInputStream(xlsx), 1, LimitedRow.class));
+
+            assertTrue(exception.isAborted());
+            assertEquals(20, exception.getErrors().size());
+        }
+    }
+
+    private static Map<String, Object> read(ExcelReadOption option, byte[] bytes) throws Exception {
+        return new ExcelReadConverter(option).readExcel(new ByteArrayInputStream(bytes), 1, TestRow.class, ScoreRow.class);
+    }
+
+    private static List<ScoreRow> scoreRows() {
+        List<ScoreRow> rows = new ArrayList<>(ROWS);
+
+        for (int i = 0; i < ROWS; i++) rows.add(new ScoreRow(i));
+
+        return rows;
+    }
+
+}
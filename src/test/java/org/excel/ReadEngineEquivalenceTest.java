@@ -0,0 +1,93 @@
+package org.excel;
+
+import org.apache.poi.hssf.usermodel.HSSFWorkbook;
+import org.excel.option.CsvFormat;
+import org.excel.option.ExcelReadOption;
+import org.excel.option.ExcelWriteOption;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayInputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * 같은 DTO를 usermodel, 스트리밍(xlsx / xls), CSV / TSV로 읽은 결과가 같은지 검증
+ */
+class ReadEngineEquivalenceTest {
+
+    private static final int ROWS = 3000;
+
+    private static final List<TestRow> EXPECTED = TestRow.rows(ROWS);
+
+    private static ExecutorService executor;
+
+    private static byte[] xlsx;
+
+    @BeforeAll
+    static void setUp() throws Exception {
+        executor = Executors.newFixedThreadPool(2);
+        xlsx = new ExcelWriteConverter().writeExcel(null, EXPECTED).toByteArray();
+    }
+
+    @AfterAll
+    static void tearDown() {
+        executor.shutdown();
+    }
+
+    @Test
+    void xlsxEngines() throws Exception {
+        assertEquals(EXPECTED, read(ExcelReadOption.builder().build(), xlsx));
+        assertEquals(EXPECTED, read(ExcelReadOption.builder().streaming(true).build(), xlsx));
+        assertEquals(EXPECTED, read(ExcelReadOption.builder().sheetExecutor(executor).build(), xlsx));
+        assertEquals(EXPECTED, read(ExcelReadOption.builder().streaming(true).compactSharedStrings(true).build(), xlsx));
+
+        //shared strings를 임시 파일 memory-map으로 보관
+        assertEquals(EXPECTED, read(ExcelReadOption.builder().streaming(true).compactSharedStrings(true)
+                .sharedStringsSpillSize(1).build(), xlsx));
+    }
+
+    @Test
+    void xlsEngines(@TempDir Path dir) throws Exception {
+        Path template = dir.resolve("template.xls");
+
+        try (HSSFWorkbook workbook = new HSSFWorkbook(); OutputStream outputStream = Files.newOutputStream(template)) {
+            workbook.write(outputStream);
+        }
+
+        byte[] xls = new ExcelWriteConverter().writeExcel(template.toString(), EXPECTED).toByteArray();
+
+        assertEquals(EXPECTED, read(ExcelReadOption.builder().build(), xls));
+        assertEquals(EXPECTED, read(ExcelReadOption.builder().streaming(true).build(), xls));
+    }
+
+    @Test
+    void csvAndTsv() throws Exception {
+        for (CsvFormat format : List.of(CsvFormat.csv(), CsvFormat.tsv(), CsvFormat.builder().quoteAll(true).build())) {
+            byte[] text = new ExcelWriteConverter(ExcelWriteOption.builder().csv(format).build())
+                    .writeExcel(null, EXPECTED).toByteArray();
+
+            assertEquals(EXPECTED, read(ExcelReadOption.builder().csv(format).build(), text));
+        }
+    }
+
+    @Test
+    void csvOptionStillReadsWorkbook() throws Exception {
+        assertEquals(EXPECTED, read(ExcelReadOption.builder().csv(CsvFormat.csv()).build(), xlsx));
+    }
+
+    private static List<?> read(ExcelReadOption option, byte[] bytes) throws Exception {
+        return (List<?>) new ExcelReadConverter(option)
+                .readExcel(new ByteArrayInputStream(bytes), 1, TestRow.class)
+                .get("rows");
+    }
+
+}
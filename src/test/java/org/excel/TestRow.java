@@ -0,0 +1,65 @@
+package org.excel;
+
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
+import org.excel.annotation.ExcelColumnRead;
+import org.excel.annotation.ExcelColumnWrite;
+import org.excel.annotation.ExcelSheetInfo;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 읽기 / 쓰기 테스트용 LIST 시트 DTO
+ */
+@ExcelSheetInfo(value = "rows", findByName = true)
+@EqualsAndHashCode
+@ToString
+public class TestRow {
+
+    @ExcelColumnWrite(value = "name", column = 0)
+    @ExcelColumnRead(column = 0)
+    public String name;
+
+    @ExcelColumnWrite(value = "count", column = 1)
+    @ExcelColumnRead(column = 1)
+    public int count;
+
+    @ExcelColumnWrite(value = "score", column = 2)
+    @ExcelColumnRead(column = 2)
+    public Double score;
+
+    @ExcelColumnWrite(value = "born", column = 3, dateFormat = "yyyy-mm-dd")
+    @ExcelColumnRead(column = 3)
+    public LocalDate born;
+
+    @ExcelColumnWrite(value = "active", column = 4)
+    @ExcelColumnRead(column = 4)
+    public Boolean active;
+
+    @ExcelColumnWrite(value = "memo", column = 5)
+    @ExcelColumnRead(column = 5)
+    public String memo;
+
+    public TestRow() {
+    }
+
+    public TestRow(int i) {
+        this.name = "name-" + i;
+        this.count = i;
+        this.score = i * 0.25;
+        this.born = LocalDate.of(2020, 1, 1).plusDays(i % 3000);
+        this.active = i % 2 == 0;
+        this.memo = i % 7 == 0 ? "" : "메모 " + (i % 500);
+    }
+
+    public static List<TestRow> rows(int size) {
+        List<TestRow> rows = new ArrayList<>(size);
+
+        for (int i = 0; i < size; i++) rows.add(new TestRow(i));
+
+        return rows;
+    }
+
+}
@@ -0,0 +1,91 @@
+package org.excel;
+
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Workbook;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.excel.annotation.ExcelColumnRead;
+import org.excel.annotation.ExcelSheetInfo;
+import org.excel.option.ExcelReadOption;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * 숫자, 수식 셀을 String 필드로 읽을 때 읽기 엔진과 관계없이 같은 문자열인지 검증
+ */
+class TextReadTest {
+
+    @ExcelSheetInfo
+    public static class TextRow {
+
+        @ExcelColumnRead(column = 0)
+        public String integer;
+
+        @ExcelColumnRead(column = 1)
+        public String error;
+
+        @ExcelColumnRead(column = 2)
+        public String decimalFormula;
+
+        @ExcelColumnRead(column = 3)
+        public String decimal;
+
+        @ExcelColumnRead(column = 4)
+        public String textFormula;
+
+        @ExcelColumnRead(column = 5)
+        public String small;
+
+        @ExcelColumnRead(column = 6)
+        public String integerFormula;
+
+        List<String> values() {
+            return List.of(integer, error, decimalFormula, decimal, textFormula, small, integerFormula);
+        }
+    }
+
+    @Test
+    void formulaAndDecimalCellsReadSameTextOnEveryEngine() throws Exception {
+        byte[] bytes = workbook();
+        List<String> expected = List.of("3", "#DIV/0!", "4.75", "1.5", "abcd", "0.00001", "6");
+
+        assertEquals(expected, read(ExcelReadOption.builder().build(), bytes).values());
+        assertEquals(expected, read(ExcelReadOption.builder().streaming(true).build(), bytes).values());
+    }
+
+    private static TextRow read(ExcelReadOption option, byte[] bytes) throws Exception {
+        List<?> rows = (List<?>) new ExcelReadConverter(option)
+                .readExcel(new ByteArrayInputStream(bytes), 1, TextRow.class)
+                .get("TextRow");
+
+        return (TextRow) rows.get(0);
+    }
+
+    private static byte[] workbook() throws Exception {
+        try (Workbook workbook = new XSSFWorkbook()) {
+            workbook.createSheet().createRow(0).createCell(0).setCellValue("header");
+
+            Row row = workbook.getSheetAt(0).createRow(1);
+            row.createCell(0).setCellValue(3);
+            row.createCell(1).setCellFormula("1/(A2-3)");
+            row.createCell(2).setCellFormula("A2*1.5+0.25");
+            row.createCell(3).setCellValue(1.5);
+            row.createCell(4).setCellFormula("\"ab\"&\"cd\"");
+            row.createCell(5).setCellValue(0.00001);
+            row.createCell(6).setCellFormula("A2*2");
+
+            //수식 결과 캐시
+            workbook.getCreationHelper().createFormulaEvaluator().evaluateAll();
+
+            ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+            workbook.write(outputStream);
+
+            return outputStream.toByteArray();
+        }
+    }
+
+}
@@ -0,0 +1,85 @@
+package org.excel.meta;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class AccessorsTest {
+
+    public static class Target {
+
+        private String name;
+
+        private int count;
+
+        private long total;
+
+        private double score;
+
+        private boolean active;
+
+        private final String fixed = "fixed";
+
+        //필드 accessor는 setter를 거치지 않아야 함
+        public void setName(String name) {
+            this.name = "setter-" + name;
+        }
+
+        public String getName() {
+            return "getter-" + name;
+        }
+    }
+
+    @Test
+    void generatesHiddenAccessorPerField() throws Exception {
+        FieldAccessor name = Accessors.forField(Target.class.getDeclaredField("name"));
+        FieldAccessor count = Accessors.forField(Target.class.getDeclaredField("count"));
+
+        assertTrue(name.getClass().isHidden());
+        assertNotSame(name.getClass(), count.getClass());
+    }
+
+    @Test
+    void accessesFieldsDirectly() throws Exception {
+        Target target = new Target();
+
+        accessor("name").set(target, "a");
+        accessor("count").setInt(target, 3);
+        accessor("total").setLong(target, 4L);
+        accessor("score").setDouble(target, 1.5);
+        accessor("active").setBoolean(target, true);
+
+        assertEquals("a", target.name);
+        assertEquals("a", accessor("name").get(target));
+        assertEquals(3, target.count);
+        assertEquals(4L, target.total);
+        assertEquals(1.5, target.score);
+        assertTrue(target.active);
+        assertEquals(3.0, accessor("count").getDouble(target));
+        assertEquals(1.5, accessor("score").getDouble(target));
+    }
+
+    @Test
+    void boxedValuesAndTypeMismatch() throws Exception {
+        Target target = new Target();
+
+        accessor("count").set(target, 7);
+        assertEquals(7, target.count);
+
+        assertThrows(ClassCastException.class, () -> accessor("name").set(target, 5));
+    }
+
+    @Test
+    void finalFieldFallsBackToReflection() throws Exception {
+        assertInstanceOf(ReflectionFieldAccessor.class, accessor("fixed"));
+    }
+
+    private static FieldAccessor accessor(String name) throws NoSuchFieldException {
+        return Accessors.forField(Target.class.getDeclaredField(name));
+    }
+
+}
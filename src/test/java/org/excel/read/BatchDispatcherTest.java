@@ -0,0 +1,132 @@
+package org.excel.read;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class BatchDispatcherTest {
+
+    private static final Duration TIMEOUT = Duration.ofSeconds(10);
+
+    @Test
+    void batchesInOrderOnExecutor() throws Exception {
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+
+        try {
+            List<List<Integer>> batches = Collections.synchronizedList(new ArrayList<>());
+            List<Thread> threads = Collections.synchronizedList(new ArrayList<>());
+
+            BatchDispatcher<Integer> dispatcher = new BatchDispatcher<>(3, 1, executor, batch -> {
+                threads.add(Thread.currentThread());
+                batches.add(batch);
+            });
+
+            for (int i = 0; i < 10; i++) dispatcher.add(i);
+            dispatcher.finish();
+
+            assertEquals(List.of(List.of(0, 1, 2), List.of(3, 4, 5), List.of(6, 7, 8), List.of(9)), batches);
+            assertNotEquals(Thread.currentThread(), threads.get(0));
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    void directExecutorRunsInline() {
+        assertTimeoutPreemptively(TIMEOUT, () -> {
+            List<Integer> items = new ArrayList<>();
+            BatchDispatcher<Integer> dispatcher = new BatchDispatcher<>(2, 1, Runnable::run, items::addAll);
+
+            for (int i = 0; i < 5; i++) dispatcher.add(i);
+            dispatcher.finish();
+
+            assertEquals(List.of(0, 1, 2, 3, 4), items);
+        });
+    }
+
+    @Test
+    void callerRunsPolicyRunsInline() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(1, 1, 0, TimeUnit.SECONDS,
+                new SynchronousQueue<>(), new ThreadPoolExecutor.CallerRunsPolicy());
+
+        try {
+            //유일한 worker를 점유해 다음 작업이 호출 thread에서 실행되도록 함
+            executor.execute(() -> {
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            });
+
+            assertTimeoutPreemptively(TIMEOUT, () -> {
+                List<Integer> items = new ArrayList<>();
+                BatchDispatcher<Integer> dispatcher = new BatchDispatcher<>(2, 1, executor, items::addAll);
+
+                for (int i = 0; i < 5; i++) dispatcher.add(i);
+                dispatcher.finish();
+
+                assertEquals(List.of(0, 1, 2, 3, 4), items);
+            });
+        } finally {
+            release.countDown();
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    void abortWaitsForRunningBatch() throws Exception {
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+
+        try {
+            CountDownLatch started = new CountDownLatch(1);
+            AtomicBoolean done = new AtomicBoolean();
+
+            BatchDispatcher<Integer> dispatcher = new BatchDispatcher<>(1, 2, executor, batch -> {
+                started.countDown();
+
+                try {
+                    Thread.sleep(200);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+
+                done.set(true);
+            });
+
+            dispatcher.add(1);
+            dispatcher.add(2);
+            assertTrue(started.await(5, TimeUnit.SECONDS));
+
+            dispatcher.abort();
+
+            assertTrue(done.get());
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    void executorRequiresQueueCapacity() {
+        assertThrows(IllegalArgumentException.class, () -> new BatchDispatcher<Integer>(10, 0, Runnable::run, batch -> {
+        }));
+    }
+
+}
@@ -0,0 +1,180 @@
+package org.excel.read;
+
+import org.apache.poi.ss.usermodel.CellType;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * CSV 토큰화 경계 조건 검증
+ */
+class CsvRowCursorTest {
+
+    @Test
+    void quotedDelimitersAndLineBreaks() throws IOException {
+        String csv = "a,\"b,c\",\"d\ne\",\"f\r\ng\"\r\n"
+                + "\"say \"\"hi\"\"\",\"\"\"\",x\r\n";
+
+        assertEquals(List.of(
+                Arrays.asList("a", "b,c", "d\ne", "f\r\ng"),
+                Arrays.asList("say \"hi\"", "\"", "x")
+        ), read(csv));
+    }
+
+    @Test
+    void lineSeparators() throws IOException {
+        assertEquals(List.of(List.of("a", "b"), List.of("c", "d"), List.of("e", "f"), List.of("g")),
+                read("a,b\r\nc,d\ne,f\rg\r\n"));
+    }
+
+    @Test
+    void lastRowWithoutLineSeparator() throws IOException {
+        assertEquals(List.of(List.of("a"), List.of("b", "c")), read("a\nb,c"));
+        assertEquals(List.of(List.of("a"), List.of("b \"q\"")), read("a\n\"b \"\"q\"\"\""));
+    }
+
+    @Test
+    void skipsBomAndEmptyLines() throws IOException {
+        List<Integer> rowNums = new ArrayList<>();
+        List<List<String>> rows = read("\uFEFFa\r\n\r\n\nb\n", rowNums);
+
+        assertEquals(List.of(List.of("a"), List.of("b")), rows);
+
+        //row 번호는 빈 줄을 포함한 줄 기준
+        assertEquals(List.of(0, 3), rowNums);
+    }
+
+    @Test
+    void emptyFields() throws IOException {
+        CsvRowCursor cursor = cursor("a,,\"\",\n", ',', '"');
+
+        cursor.next();
+        ReadRow row = cursor.getRow();
+
+        //따옴표 없는 빈 필드는 셀 없음, 따옴표로 감싼 빈 필드는 빈 문자열
+        assertEquals("a", row.getStringValue(0));
+        assertEquals(CellType._NONE, row.getCellType(1));
+        assertEquals(CellType.STRING, row.getCellType(2));
+        assertEquals("", row.getStringValue(2));
+        assertEquals(CellType._NONE, row.getCellType(3));
+    }
+
+    @Test
+    void customDelimiterAndQuote() throws IOException {
+        List<List<String>> rows = new ArrayList<>();
+        CsvRowCursor cursor = cursor("'a;b'\t'it''s'\tc\n", '\t', '\'');
+
+        while (cursor.next()) rows.add(values(cursor.getRow()));
+
+        assertEquals(List.of(List.of("a;b", "it's", "c")), rows);
+    }
+
+    @Test
+    void rowLargerThanBuffer() throws IOException {
+        String large = "x".repeat(200_000);
+        String quoted = "q\"\"".repeat(50_000);
+
+        assertEquals(List.of(List.of("a", large), List.of("q\"".repeat(50_000), "b"), List.of("c")),
+                read("a," + large + "\r\n\"" + quoted + "\",b\r\nc\r\n"));
+    }
+
+    @Test
+    void rowsSplitAcrossReads() throws IOException {
+        String csv = "a,\"b\"\"c\",\"d\r\ne\"\r\n\"\",f\r\n\r\ng,h";
+        List<List<String>> expected = read(csv);
+
+        //채널이 한 byte씩 반환해도 같은 결과
+        List<List<String>> rows = new ArrayList<>();
+        CsvRowCursor cursor = new CsvRowCursor(new SingleByteChannel(csv.getBytes(UTF_8)), UTF_8, ',', '"');
+
+        while (cursor.next()) rows.add(values(cursor.getRow()));
+
+        assertEquals(expected, rows);
+        assertEquals(List.of(Arrays.asList("a", "b\"c", "d\r\ne"), Arrays.asList("", "f"), List.of("g", "h")), rows);
+    }
+
+    @Test
+    void nonUtf8Charset() throws IOException {
+        Charset charset = Charset.forName("EUC-KR");
+        CsvRowCursor cursor = new CsvRowCursor(Channels.newChannel(new ByteArrayInputStream("이름,\"값,1\"\n".getBytes(charset))),
+                charset, ',', '"');
+
+        cursor.next();
+
+        assertEquals(List.of("이름", "값,1"), values(cursor.getRow()));
+    }
+
+    private static List<List<String>> read(String csv) throws IOException {
+        return read(csv, new ArrayList<>());
+    }
+
+    private static List<List<String>> read(String csv, List<Integer> rowNums) throws IOException {
+        List<List<String>> rows = new ArrayList<>();
+
+        try (CsvRowCursor cursor = cursor(csv, ',', '"')) {
+            while (cursor.next()) {
+                rowNums.add(cursor.getRowNum());
+                rows.add(values(cursor.getRow()));
+            }
+        }
+
+        return rows;
+    }
+
+    private static CsvRowCursor cursor(String csv, char delimiter, char quote) {
+        return new CsvRowCursor(Channels.newChannel(new ByteArrayInputStream(csv.getBytes(UTF_8))), UTF_8, delimiter, quote);
+    }
+
+    private static List<String> values(ReadRow row) {
+        List<String> values = new ArrayList<>();
+
+        for (int column = 0; column < row.getLastCellNum(); column++) {
+            values.add(row.getCellType(column) == CellType._NONE ? null : row.getStringValue(column));
+        }
+
+        return values;
+    }
+
+    /**
+     * read 한 번에 1 byte만 반환하는 채널
+     */
+    private static class SingleByteChannel implements ReadableByteChannel {
+
+        private final byte[] bytes;
+
+        private int position;
+
+        SingleByteChannel(byte[] bytes) {
+            this.bytes = bytes;
+        }
+
+        @Override
+        public int read(ByteBuffer dst) {
+            if (position >= bytes.length) return -1;
+
+            dst.put(bytes[position++]);
+            return 1;
+        }
+
+        @Override
+        public boolean isOpen() {
+            return true;
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+
+}
@@ -0,0 +1,55 @@
+package org.excel.read;
+
+import org.apache.poi.ss.usermodel.CellStyle;
+import org.apache.poi.ss.usermodel.CellType;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class PoiReadRowTest {
+
+    @Test
+    void snapshotCopiesValuesOutOfWorkbook() throws Exception {
+        try (XSSFWorkbook workbook = new XSSFWorkbook()) {
+            Row row = workbook.createSheet().createRow(0);
+            row.createCell(0).setCellValue("text");
+            row.createCell(1).setCellValue(1.5);
+            row.createCell(2).setCellValue(true);
+            row.createCell(3).setCellValue(LocalDateTime.of(2024, 3, 1, 12, 0));
+            row.getCell(3).setCellStyle(dateStyle(workbook));
+            row.createCell(5).setBlank();
+
+            ReadRow snapshot = new PoiReadRow(row).snapshot();
+
+            //원본 row를 바꿔도 복사본은 그대로
+            row.getCell(0).setCellValue("changed");
+            row.getCell(1).setCellValue(9);
+
+            assertInstanceOf(BufferedReadRow.class, snapshot);
+            assertEquals(6, snapshot.getLastCellNum());
+            assertEquals("text", snapshot.getStringValue(0));
+            assertEquals(1.5, snapshot.getNumericValue(1));
+            assertTrue(snapshot.getBooleanValue(2));
+            assertTrue(snapshot.isDateFormatted(3));
+            assertEquals(LocalDateTime.of(2024, 3, 1, 12, 0), snapshot.getDateValue(3));
+            assertEquals(CellType._NONE, snapshot.getCellType(4));
+            assertEquals(CellType.BLANK, snapshot.getCellType(5));
+            assertFalse(snapshot.isDateFormatted(1));
+        }
+    }
+
+    private static CellStyle dateStyle(XSSFWorkbook workbook) {
+        CellStyle style = workbook.createCellStyle();
+        style.setDataFormat(workbook.getCreationHelper().createDataFormat().getFormat("yyyy-mm-dd hh:mm"));
+
+        return style;
+    }
+
+}
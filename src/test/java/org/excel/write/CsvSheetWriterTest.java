@@ -0,0 +1,90 @@
+package org.excel.write;
+
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
+import org.excel.ExcelReadConverter;
+import org.excel.ExcelWriteConverter;
+import org.excel.annotation.ExcelColumnRead;
+import org.excel.annotation.ExcelColumnWrite;
+import org.excel.annotation.ExcelSheetInfo;
+import org.excel.option.CsvFormat;
+import org.excel.option.ExcelReadOption;
+import org.excel.option.ExcelWriteOption;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * CSV 따옴표, 이스케이프 처리와 다시 읽은 값 검증
+ */
+class CsvSheetWriterTest {
+
+    @ExcelSheetInfo("text")
+    @EqualsAndHashCode
+    @ToString
+    public static class TextRow {
+
+        @ExcelColumnWrite(value = "a", column = 0)
+        @ExcelColumnRead(column = 0)
+        public String a;
+
+        @ExcelColumnWrite(value = "b", column = 1)
+        @ExcelColumnRead(column = 1)
+        public String b;
+
+        public TextRow() {
+        }
+
+        TextRow(String a, String b) {
+            this.a = a;
+            this.b = b;
+        }
+    }
+
+    private static final List<TextRow> ROWS = List.of(
+            new TextRow("plain", "with,comma"),
+            new TextRow("say \"hi\"", "\"\""),
+            new TextRow("line1\nline2", "cr\r\nlf"),
+            new TextRow("  spaces  ", "한글 ✓"),
+            new TextRow("", "empty"),
+            new TextRow(null, "last")
+    );
+
+    @Test
+    void quotesOnlyWhenNeeded() throws Exception {
+        String csv = write(CsvFormat.csv());
+
+        assertEquals("a,b\r\n"
+                + "plain,\"with,comma\"\r\n"
+                + "\"say \"\"hi\"\"\",\"\"\"\"\"\"\r\n"
+                + "\"line1\nline2\",\"cr\r\nlf\"\r\n"
+                + "  spaces  ,한글 ✓\r\n"
+                + "\"\",empty\r\n"
+                + ",last\r\n", csv);
+    }
+
+    @Test
+    void roundTrip() throws Exception {
+        for (CsvFormat format : List.of(CsvFormat.csv(), CsvFormat.tsv(), CsvFormat.builder().quoteAll(true).build(),
+                CsvFormat.builder().delimiter(';').quote('\'').lineSeparator("\n").build())) {
+            byte[] bytes = write(format).getBytes(StandardCharsets.UTF_8);
+
+            List<?> rows = (List<?>) new ExcelReadConverter(ExcelReadOption.builder().csv(format).build())
+                    .readExcel(new ByteArrayInputStream(bytes), 1, TextRow.class)
+                    .get("text");
+
+            //빈 문자열과 null이 구분되어야 함
+            assertEquals(ROWS, rows, format.getDelimiter() + " / " + format.getQuote());
+        }
+    }
+
+    private static String write(CsvFormat format) throws Exception {
+        return new ExcelWriteConverter(ExcelWriteOption.builder().csv(format).build())
+                .writeExcel(null, ROWS).toString(StandardCharsets.UTF_8);
+    }
+
+}